@@ -1,11 +1,17 @@
 package com.gateway.api_gateway;
 
+import com.freelancer.commons.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import com.gateway.api_gateway.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
 @EnableDiscoveryClient
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ApiGatewayApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,59 @@
+package com.gateway.api_gateway.config;
+
+import com.freelancer.commons.limit.ConcurrencyLimitSettings;
+import com.freelancer.commons.logging.SamplingTurboFilter;
+import com.gateway.api_gateway.limit.ConcurrencyLimitGatewayFilterFactory;
+import com.gateway.api_gateway.ratelimit.TokenBucketRateLimiter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reachability metadata for the native image ({@code mvn -Pnative native:compile}) that Spring AOT cannot infer.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * jjwt-impl and jjwt-jackson are runtime-only dependencies that jjwt-api instantiates by class name
+     * ({@code Jwts.parserBuilder()}) or through {@link java.util.ServiceLoader}.
+     */
+    private static final String[] JJWT_TYPES = {
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    };
+
+    /** Built reflectively by logback from logback-spring.xml. */
+    private static final String[] LOGBACK_TYPES = {
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        for (String type : LOGBACK_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.resources().registerPattern("com/freelancer/commons/logging/logback-base.xml");
+
+        // Route filter args and gateway.concurrency-limit.* in application.yml are bound onto these at runtime
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                TokenBucketRateLimiter.Config.class, ConcurrencyLimitGatewayFilterFactory.Config.class,
+                ConcurrencyLimitSettings.class);
+    }
+}
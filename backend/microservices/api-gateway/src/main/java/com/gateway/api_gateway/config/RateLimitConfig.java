@@ -0,0 +1,54 @@
+package com.gateway.api_gateway.config;
+
+import com.gateway.api_gateway.ratelimit.InMemoryKeyValueStore;
+import com.gateway.api_gateway.ratelimit.LocalTokenBucketStore;
+import com.gateway.api_gateway.ratelimit.SharedTokenBucketStore;
+import com.gateway.api_gateway.ratelimit.TokenBucketRateLimiter;
+import com.gateway.api_gateway.ratelimit.TokenBucketStore;
+import com.gateway.api_gateway.ratelimit.UserOrIpKeyResolver;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import reactor.core.publisher.Mono;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * {@code gateway.rate-limit.store=local} keeps buckets per gateway node; {@code shared} keeps them in a
+     * cluster-wide key-value store (an in-process stand-in until a real store is wired in).
+     * {@code gateway.rate-limit.enabled=false} admits everything (load tests drive all traffic from one address).
+     */
+    @Bean
+    public TokenBucketStore tokenBucketStore(Environment environment) {
+        if (!environment.getProperty("gateway.rate-limit.enabled", Boolean.class, true)) {
+            return (key, replenishRate, burstCapacity, tokens) -> Mono.just(new TokenBucketStore.Decision(true, burstCapacity));
+        }
+        String store = environment.getProperty("gateway.rate-limit.store", "local");
+        if ("shared".equalsIgnoreCase(store)) {
+            return new SharedTokenBucketStore(new InMemoryKeyValueStore());
+        }
+        return new LocalTokenBucketStore(environment.getProperty("gateway.rate-limit.sweep-threshold", Integer.class, 10_000));
+    }
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(TokenBucketStore tokenBucketStore, Environment environment,
+                                                         ConfigurationService configurationService) {
+        TokenBucketRateLimiter.Config defaults = new TokenBucketRateLimiter.Config()
+                .setReplenishRate(environment.getProperty("gateway.rate-limit.default-replenish-rate", Integer.class, 20))
+                .setBurstCapacity(environment.getProperty("gateway.rate-limit.default-burst-capacity", Integer.class, 40));
+        return new TokenBucketRateLimiter(tokenBucketStore, defaults,
+                environment.getProperty("gateway.rate-limit.include-headers", Boolean.class, true),
+                configurationService);
+    }
+
+    /**
+     * {@code gateway.rate-limit.trusted-proxies} is the number of our own proxies in front of the gateway that
+     * append to {@code X-Forwarded-For}; 0 when clients connect directly.
+     */
+    @Bean
+    public UserOrIpKeyResolver userOrIpKeyResolver(Environment environment) {
+        return new UserOrIpKeyResolver(environment.getProperty("gateway.rate-limit.trusted-proxies", Integer.class, 0));
+    }
+}
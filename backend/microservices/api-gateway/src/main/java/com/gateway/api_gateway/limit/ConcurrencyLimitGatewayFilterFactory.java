@@ -0,0 +1,101 @@
+package com.gateway.api_gateway.limit;
+
+import com.freelancer.commons.limit.AdaptiveConcurrencyLimit;
+import com.freelancer.commons.limit.ConcurrencyLimitSettings;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ConcurrencyLimit} route filter: one {@link AdaptiveConcurrencyLimit} per backend service (the host of the
+ * route's {@code lb://} URI), shared by all routes to that service. Requests over the route's share of the limit
+ * get an immediate 503 with Retry-After instead of queueing in the backend. Server-sent event streams are not
+ * counted, since they stay open by design. Limit, in-flight and rejections are published per service as
+ * {@code gateway.concurrency.*}.
+ */
+@Component
+public class ConcurrencyLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<ConcurrencyLimitGatewayFilterFactory.Config> {
+
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final ConcurrencyLimitSettings settings;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitGatewayFilterFactory(Environment environment, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.settings = ConcurrencyLimitSettings.from(environment, "gateway.concurrency-limit");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        double share = config.getPriority().share();
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getHeaders().getAccept().contains(MediaType.TEXT_EVENT_STREAM)) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String service = route != null && route.getUri().getHost() != null ? route.getUri().getHost() : "default";
+            AdaptiveConcurrencyLimit limit = limits.computeIfAbsent(service, this::newLimit);
+            if (!limit.tryAcquire(share)) {
+                rejections.computeIfAbsent(service, s -> Counter.builder("gateway.concurrency.rejected")
+                        .tag("service", s)
+                        .register(meterRegistry)).increment();
+                exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                return exchange.getResponse().setComplete();
+            }
+            long start = System.nanoTime();
+            return chain.filter(exchange).doFinally(signal -> {
+                if (signal == SignalType.CANCEL) {
+                    limit.release(0, false);
+                    return;
+                }
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                boolean dropped = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                limit.release(System.nanoTime() - start, dropped);
+            });
+        };
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(String service) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings);
+        Gauge.builder("gateway.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("service", service)
+                .register(meterRegistry);
+        Gauge.builder("gateway.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("service", service)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    public Map<String, AdaptiveConcurrencyLimit> getLimits() {
+        return limits;
+    }
+
+    public static class Config {
+        private RequestPriority priority = RequestPriority.NORMAL;
+
+        public RequestPriority getPriority() {
+            return priority;
+        }
+
+        public void setPriority(RequestPriority priority) {
+            this.priority = priority;
+        }
+    }
+}
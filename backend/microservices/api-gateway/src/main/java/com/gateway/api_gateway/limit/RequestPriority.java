@@ -0,0 +1,21 @@
+package com.gateway.api_gateway.limit;
+
+/**
+ * Route priority for load shedding: the share of a backend's concurrency limit a route may use. As the limit
+ * shrinks, BULK routes are rejected first and CRITICAL ones last.
+ */
+public enum RequestPriority {
+    CRITICAL(1.0),
+    NORMAL(0.85),
+    BULK(0.6);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double share() {
+        return share;
+    }
+}
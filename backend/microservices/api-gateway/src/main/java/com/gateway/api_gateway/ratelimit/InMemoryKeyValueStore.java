@@ -0,0 +1,43 @@
+package com.gateway.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for a shared {@link KeyValueStore}, for development and tests of the shared code path.
+ * Expiry is applied lazily on read.
+ */
+public class InMemoryKeyValueStore implements KeyValueStore {
+
+    private record Entry(long value, long expiresAtMillis) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Long> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAtMillis() < System.currentTimeMillis()) {
+            return Mono.just(0L);
+        }
+        return Mono.just(entry.value());
+    }
+
+    @Override
+    public Mono<Boolean> compareAndSet(String key, long expected, long value, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry next = new Entry(value, now + ttl.toMillis());
+        boolean[] swapped = new boolean[1];
+        entries.compute(key, (k, current) -> {
+            long currentValue = current == null || current.expiresAtMillis() < now ? 0 : current.value();
+            if (currentValue != expected) {
+                return current;
+            }
+            swapped[0] = true;
+            return next;
+        });
+        return Mono.just(swapped[0]);
+    }
+}
@@ -0,0 +1,22 @@
+package com.gateway.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Minimal contract a shared store (Redis, Hazelcast, a database) must offer for {@link SharedTokenBucketStore}:
+ * read a long and conditionally replace it with an expiry.
+ */
+public interface KeyValueStore {
+
+    /**
+     * Current value, or 0 if the key does not exist.
+     */
+    Mono<Long> get(String key);
+
+    /**
+     * Sets {@code key} to {@code value} only if it currently holds {@code expected} (0 meaning absent).
+     */
+    Mono<Boolean> compareAndSet(String key, long expected, long value, Duration ttl);
+}
@@ -0,0 +1,82 @@
+package com.gateway.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Single-node store: one {@link AtomicLong} per key updated with a CAS loop, so the allowed path takes no locks
+ * and allocates nothing once a key exists. Idle buckets (fully refilled) are swept at most every few seconds.
+ * <p>
+ * Time is measured in microseconds since the store was created. {@link System#nanoTime()} may be negative, and
+ * the GCRA step treats a stored 0 as "no bucket", which only holds while {@code now} never goes below it.
+ */
+public class LocalTokenBucketStore implements TokenBucketStore {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final Decision DENIED = new Decision(false, 0);
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final int sweepThreshold;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private volatile long lastSweepNanos;
+
+    public LocalTokenBucketStore(int sweepThreshold) {
+        this(sweepThreshold, System::nanoTime);
+    }
+
+    LocalTokenBucketStore(int sweepThreshold, LongSupplier nanoClock) {
+        this.sweepThreshold = sweepThreshold;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.lastSweepNanos = startNanos;
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int tokens) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong());
+        }
+        long now = nowMicros();
+        while (true) {
+            long tat = bucket.get();
+            long next = TokenBucketStore.nextArrival(tat, now, replenishRate, burstCapacity, tokens);
+            if (next < 0) {
+                maybeSweep(now);
+                return Mono.just(DENIED);
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                maybeSweep(now);
+                return Mono.just(new Decision(true, TokenBucketStore.remaining(next, now, replenishRate, burstCapacity)));
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void maybeSweep(long nowMicros) {
+        if (buckets.size() < sweepThreshold || nanoClock.getAsLong() - lastSweepNanos < SWEEP_INTERVAL_NANOS
+                || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastSweepNanos = nanoClock.getAsLong();
+            buckets.entrySet().removeIf(e -> e.getValue().get() <= nowMicros);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private long nowMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(nanoClock.getAsLong() - startNanos);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gateway.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token buckets kept in a {@link KeyValueStore} shared by all gateway nodes, so a quota holds across the
+ * cluster. Uses wall-clock time, since arrival times are compared between nodes. Contended updates retry
+ * the compare-and-set a few times and then deny.
+ */
+public class SharedTokenBucketStore implements TokenBucketStore {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final KeyValueStore keyValueStore;
+
+    public SharedTokenBucketStore(KeyValueStore keyValueStore) {
+        this.keyValueStore = keyValueStore;
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int tokens) {
+        return attempt(key, replenishRate, burstCapacity, tokens, 1);
+    }
+
+    private Mono<Decision> attempt(String key, int replenishRate, int burstCapacity, int tokens, int attempt) {
+        return keyValueStore.get(key).flatMap(tat -> {
+            long now = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+            long next = TokenBucketStore.nextArrival(tat, now, replenishRate, burstCapacity, tokens);
+            if (next < 0) {
+                return Mono.just(new Decision(false, 0));
+            }
+            // Keep the key only as long as it takes the bucket to refill completely
+            Duration ttl = Duration.ofMillis(TimeUnit.MICROSECONDS.toMillis(next - now) + 1000);
+            return keyValueStore.compareAndSet(key, tat, next, ttl).flatMap(swapped -> {
+                if (swapped) {
+                    return Mono.just(new Decision(true, TokenBucketStore.remaining(next, now, replenishRate, burstCapacity)));
+                }
+                return attempt < MAX_ATTEMPTS
+                        ? attempt(key, replenishRate, burstCapacity, tokens, attempt + 1)
+                        : Mono.just(new Decision(false, 0));
+            });
+        });
+    }
+}
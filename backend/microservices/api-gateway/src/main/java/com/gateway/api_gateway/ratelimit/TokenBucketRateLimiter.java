@@ -0,0 +1,90 @@
+package com.gateway.api_gateway.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Token-bucket {@link org.springframework.cloud.gateway.filter.ratelimit.RateLimiter} for the RequestRateLimiter
+ * filter. Quotas are configured per route with {@code token-bucket-rate-limiter.*} filter args; bucket state lives
+ * in a pluggable {@link TokenBucketStore}. If the store fails the request is let through rather than rejected.
+ */
+public class TokenBucketRateLimiter extends AbstractRateLimiter<TokenBucketRateLimiter.Config> {
+
+    public static final String CONFIGURATION_PROPERTY_NAME = "token-bucket-rate-limiter";
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+
+    private final TokenBucketStore store;
+    private final Config defaultConfig;
+    private final boolean includeHeaders;
+
+    public TokenBucketRateLimiter(TokenBucketStore store, Config defaultConfig, boolean includeHeaders,
+                                  ConfigurationService configurationService) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.store = store;
+        this.defaultConfig = defaultConfig;
+        this.includeHeaders = includeHeaders;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        return store.tryConsume(routeId + ':' + id, config.getReplenishRate(), config.getBurstCapacity(),
+                        config.getRequestedTokens())
+                .map(decision -> new Response(decision.allowed(), headers(config, decision.remaining())))
+                .onErrorResume(e -> {
+                    log.warn("Rate limit store unavailable, allowing request: {}", e.getMessage());
+                    return Mono.just(new Response(true, headers(config, -1)));
+                });
+    }
+
+    private Map<String, String> headers(Config config, long remaining) {
+        if (!includeHeaders) {
+            return Map.of();
+        }
+        return Map.of(REMAINING_HEADER, Long.toString(remaining),
+                REPLENISH_RATE_HEADER, Integer.toString(config.getReplenishRate()),
+                BURST_CAPACITY_HEADER, Integer.toString(config.getBurstCapacity()));
+    }
+
+    public static class Config {
+        private int replenishRate = 10; // tokens per second
+        private int burstCapacity = 20;
+        private int requestedTokens = 1;
+
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+
+        public Config setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+            return this;
+        }
+
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public Config setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+            return this;
+        }
+
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+
+        public Config setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+            return this;
+        }
+    }
+}
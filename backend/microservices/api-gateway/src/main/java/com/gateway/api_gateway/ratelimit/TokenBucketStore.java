@@ -0,0 +1,35 @@
+package com.gateway.api_gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds token-bucket state. Buckets are kept in GCRA form: a single "theoretical arrival time" per key, which
+ * a store can update with one compare-and-set whether it lives in memory or in a shared key-value store.
+ */
+public interface TokenBucketStore {
+
+    Mono<Decision> tryConsume(String key, int replenishRate, int burstCapacity, int tokens);
+
+    record Decision(boolean allowed, long remaining) {
+    }
+
+    /**
+     * GCRA step: given the stored arrival time {@code tat} (0 if none) and {@code now}, both in microseconds,
+     * returns the new arrival time to store, or -1 if the request exceeds the burst capacity.
+     */
+    static long nextArrival(long tat, long now, int replenishRate, int burstCapacity, int tokens) {
+        long interval = intervalMicros(replenishRate);
+        long base = Math.max(tat, now);
+        long next = base + interval * tokens;
+        return next - now > interval * burstCapacity ? -1 : next;
+    }
+
+    static long remaining(long tat, long now, int replenishRate, int burstCapacity) {
+        long interval = intervalMicros(replenishRate);
+        return Math.max(0, (interval * burstCapacity - Math.max(0, tat - now)) / interval);
+    }
+
+    static long intervalMicros(int replenishRate) {
+        return Math.max(1, 1_000_000L / Math.max(1, replenishRate));
+    }
+}
@@ -0,0 +1,48 @@
+package com.gateway.api_gateway.ratelimit;
+
+import com.gateway.api_gateway.security.AuthFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Keys requests by the user id that {@link AuthFilter} verified from the JWT, falling back to the client IP for
+ * anonymous routes (login, registration). The id comes from an exchange attribute, not a header, so clients
+ * cannot pick their own bucket.
+ * <p>
+ * Behind load balancers the client IP is taken from {@code X-Forwarded-For}, counting {@code trustedProxies}
+ * entries from the right: those were appended by our own proxies, anything further left is client-supplied and
+ * could be forged. With no trusted proxies the header is ignored and the connection's address is used.
+ */
+public class UserOrIpKeyResolver implements KeyResolver {
+
+    private final RemoteAddressResolver addressResolver;
+
+    public UserOrIpKeyResolver(int trustedProxies) {
+        this.addressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        Object userId = exchange.getAttribute(AuthFilter.USER_ID_ATTRIBUTE);
+        if (userId != null) {
+            return Mono.just("user:" + userId);
+        }
+        InetSocketAddress remote = addressResolver.resolve(exchange);
+        if (remote != null && remote.getAddress() != null) {
+            return Mono.just("ip:" + remote.getAddress().getHostAddress());
+        }
+        if (remote != null) {
+            // Forwarded addresses are created unresolved
+            return Mono.just("ip:" + remote.getHostString());
+        }
+        return Mono.just("ip:unknown");
+    }
+}
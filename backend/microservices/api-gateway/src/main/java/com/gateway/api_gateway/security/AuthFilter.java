@@ -1,18 +1,29 @@
 package com.gateway.api_gateway.security;
 import com.gateway.api_gateway.util.JwtUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.Objects;
 import java.util.regex.Pattern;
 
+import static com.freelancer.commons.logging.SamplingTurboFilter.SAMPLED;
+
 
 @Component
 public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config> {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthFilter.class);
+
 //    @Autowired
 //    private RestTemplate template;
 
@@ -22,22 +33,30 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    /** Exchange attribute holding the user id verified from the JWT (unlike the header, not client-controlled). */
+    public static final String USER_ID_ATTRIBUTE = AuthFilter.class.getName() + ".userId";
+
     private static final Pattern BID_PROJECT_PATTERN = Pattern.compile("^/bids/project/.*");
     private static final Pattern BID_ACCEPT_PATTERN  = Pattern.compile("^/bids/[0-9]+/accept$");
     private static final Pattern BID_REJECT_PATTERN  = Pattern.compile("^/bids/[0-9]+/reject$");
+    // Under /freelancers/, but meant for the client who owns the project
+    private static final Pattern RECOMMENDED_FREELANCERS_PATTERN =
+            Pattern.compile("^/freelancers/project/[0-9]+/recommended-freelancers$");
 
     public AuthFilter(){
         super(Config.class);
-        System.out.println("AuthenticationFilter triggered for: ");
     }
 
 
     @Override
     public GatewayFilter apply(Config config) {
-        return ((exchange, chain) -> {
+        return ((incoming, chain) -> Mono.deferContextual(reactorContext -> {
+            ServerWebExchange exchange = incoming;
             String path = exchange.getRequest().getURI().getPath();
             if (path.startsWith("/users/register") || path.startsWith("/users/login")) {
-                System.out.println("===========Auth hit============");
                 return chain.filter(exchange);
             }
             if (!exchange.getRequest().getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
@@ -56,20 +75,21 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
 
                 if (authHeader != null && authHeader.startsWith("Bearer ")) {
                     authHeader = authHeader.substring(7);
-                    System.out.println("token : "+ authHeader);
                 }
 
+                // Child of the server request observation, so JWT checks show up as their own segment in a trace
+                Observation observation = Observation.createNotStarted("gateway.auth", observationRegistry)
+                        .parentObservation(reactorContext.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                        .start();
                 try {
                     jwtUtil.validateToken(authHeader);
 
                     // ✅ Extract the role and username from the token
                     String role = jwtUtil.extractRole(authHeader);
+                    observation.lowCardinalityKeyValue("role", String.valueOf(role));
                     String username = jwtUtil.extractUsername(authHeader);
                     Long userId = jwtUtil.extractUserId(authHeader);
-                    System.out.println("======"+role);
-                    System.out.println("User Role from JWT: " + role);
-                    System.out.println("Username from JWT: " + username);
-                    System.out.println("UserId from JWT: " + userId);
+                    log.debug(SAMPLED, "Authenticated {} as userId={} role={}", path, userId, role);
 
                     // Add username to request headers for downstream services
                     exchange = exchange.mutate()
@@ -78,22 +98,29 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
                                 httpHeaders.add("userId", String.valueOf(userId));
                             }))
                             .build();
+                    if (userId != null) {
+                        exchange.getAttributes().put(USER_ID_ATTRIBUTE, userId);
+                    }
 
 
                     // ✅ Optional: restrict endpoint based on role
                     if (path.startsWith("/clients/") || path.startsWith("/clients/createProject/")) {
-                        System.out.println("role: {}"+role);
                         if (!"ROLE_CLIENT".equalsIgnoreCase(role)) {
                             throw new RuntimeException("Access Denied: Only Clients can access this route");
                         }
                     }
 
-                    if (path.startsWith("/freelancers/")) {
+                    if (RECOMMENDED_FREELANCERS_PATTERN.matcher(path).matches()) {
+                        if (!"ROLE_CLIENT".equalsIgnoreCase(role)) {
+                            throw new RuntimeException("Access Denied: Only clients can access this route");
+                        }
+                    } else if (path.startsWith("/freelancers/")) {
                         if (!"ROLE_FREELANCER".equalsIgnoreCase(role)) {
                             throw new RuntimeException("Access Denied: Only freelancer can access this route");
                         }
                     }
-                    if (path.startsWith("/projects/getProject/")) {
+                    if (path.startsWith("/projects/getProject/") || path.startsWith("/projects/rx/getProject/")
+                            || path.startsWith("/projects/feed")) {
                         if (!"ROLE_FREELANCER".equalsIgnoreCase(role)) {
                             throw new RuntimeException("Access Denied: Only freelancer can access this route");
                         }
@@ -112,6 +139,10 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
                         }
                     }
 
+                    if (path.startsWith("/bids/projects/")) {
+                        throw new RuntimeException("Access Denied: Internal route");
+                    }
+
                     if (path.startsWith("/quiz/create")) {
                         if (!"ROLE_TEACHER".equalsIgnoreCase(role)) {
                             throw new RuntimeException("Access Denied: Only teachers can create quizzes");
@@ -119,12 +150,15 @@ public class AuthFilter extends AbstractGatewayFilterFactory<AuthFilter.Config>
                     }
 
                 } catch (Exception e) {
+                    observation.error(e);
                     throw new RuntimeException("Unauthorized access: " + e.getMessage());
+                } finally {
+                    observation.stop();
                 }
             }
 
             return chain.filter(exchange);
-        });
+        }));
     }
 
 
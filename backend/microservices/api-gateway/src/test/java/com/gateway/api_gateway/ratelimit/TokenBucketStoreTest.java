@@ -0,0 +1,133 @@
+package com.gateway.api_gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketStoreTest {
+
+    // 10 tokens per second: one every 100 ms
+    private static final int RATE = 10;
+    private static final long INTERVAL = 100_000;
+    private static final long NOW = 5_000_000;
+
+    @Test
+    void fullBucketAdmitsTheBurstAndThenDenies() {
+        long tat = 0;
+        for (int i = 1; i <= 3; i++) {
+            tat = TokenBucketStore.nextArrival(tat, NOW, RATE, 3, 1);
+            assertEquals(NOW + i * INTERVAL, tat);
+        }
+        assertEquals(-1, TokenBucketStore.nextArrival(tat, NOW, RATE, 3, 1));
+    }
+
+    @Test
+    void tokensComeBackAtTheReplenishRate() {
+        long tat = NOW + 3 * INTERVAL;
+
+        assertEquals(-1, TokenBucketStore.nextArrival(tat, NOW + INTERVAL - 1, RATE, 3, 1));
+        assertEquals(tat + INTERVAL, TokenBucketStore.nextArrival(tat, NOW + INTERVAL, RATE, 3, 1));
+    }
+
+    @Test
+    void idleTimeDoesNotBankMoreThanTheBurst() {
+        long stale = NOW - 60 * 1_000_000L;
+
+        assertEquals(NOW + INTERVAL, TokenBucketStore.nextArrival(stale, NOW, RATE, 3, 1));
+        assertEquals(3, TokenBucketStore.remaining(stale, NOW, RATE, 3));
+    }
+
+    @Test
+    void requestForMoreTokensThanTheBurstIsDenied() {
+        assertEquals(-1, TokenBucketStore.nextArrival(0, NOW, RATE, 3, 4));
+        assertEquals(NOW + 3 * INTERVAL, TokenBucketStore.nextArrival(0, NOW, RATE, 3, 3));
+    }
+
+    @Test
+    void remainingCountsWholeTokens() {
+        assertEquals(2, TokenBucketStore.remaining(NOW + INTERVAL, NOW, RATE, 3));
+        assertEquals(0, TokenBucketStore.remaining(NOW + 3 * INTERVAL, NOW, RATE, 3));
+        assertEquals(1, TokenBucketStore.remaining(NOW + 2 * INTERVAL - 1, NOW, RATE, 3));
+    }
+
+    @Test
+    void intervalStaysPositiveForExtremeRates() {
+        assertEquals(1_000_000, TokenBucketStore.intervalMicros(0));
+        assertEquals(1, TokenBucketStore.intervalMicros(10_000_000));
+    }
+
+    @Test
+    void localStoreKeepsOneBucketPerKey() {
+        LocalTokenBucketStore store = new LocalTokenBucketStore(10_000);
+
+        assertEquals(new TokenBucketStore.Decision(true, 1), store.tryConsume("a", 1, 2, 1).block());
+        assertEquals(new TokenBucketStore.Decision(true, 0), store.tryConsume("a", 1, 2, 1).block());
+        assertFalse(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertTrue(store.tryConsume("b", 1, 2, 1).block().allowed());
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    void localStoreWorksWhenTheNanoClockIsNegative() {
+        AtomicLong nanos = new AtomicLong(Long.MIN_VALUE / 2);
+        LocalTokenBucketStore store = new LocalTokenBucketStore(1, nanos::get);
+
+        assertTrue(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertTrue(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertFalse(store.tryConsume("a", 1, 2, 1).block().allowed());
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(store.tryConsume("a", 1, 2, 1).block().allowed());
+    }
+
+    @Test
+    void localStoreSweepsRefilledBuckets() {
+        AtomicLong nanos = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+        LocalTokenBucketStore store = new LocalTokenBucketStore(2, nanos::get);
+        store.tryConsume("a", 1, 2, 1).block();
+        store.tryConsume("b", 1, 2, 1).block();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        store.tryConsume("c", 1, 2, 1).block();
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void sharedStoreEnforcesTheBurstThroughTheKeyValueStore() {
+        SharedTokenBucketStore store = new SharedTokenBucketStore(new InMemoryKeyValueStore());
+
+        assertTrue(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertTrue(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertFalse(store.tryConsume("a", 1, 2, 1).block().allowed());
+        assertTrue(store.tryConsume("b", 1, 2, 1).block().allowed());
+    }
+
+    @Test
+    void sharedStoreDeniesAfterRepeatedlyLosingTheCompareAndSet() {
+        AtomicInteger attempts = new AtomicInteger();
+        KeyValueStore contended = new KeyValueStore() {
+            @Override
+            public Mono<Long> get(String key) {
+                return Mono.just(0L);
+            }
+
+            @Override
+            public Mono<Boolean> compareAndSet(String key, long expected, long value, Duration ttl) {
+                attempts.incrementAndGet();
+                return Mono.just(false);
+            }
+        };
+
+        assertFalse(new SharedTokenBucketStore(contended).tryConsume("a", 1, 2, 1).block().allowed());
+        assertEquals(5, attempts.get());
+    }
+}
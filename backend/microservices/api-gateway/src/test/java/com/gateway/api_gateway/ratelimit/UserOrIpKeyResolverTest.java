@@ -0,0 +1,55 @@
+package com.gateway.api_gateway.ratelimit;
+
+import com.gateway.api_gateway.security.AuthFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UserOrIpKeyResolverTest {
+
+    private static final InetSocketAddress PROXY = new InetSocketAddress("10.0.0.5", 443);
+
+    @Test
+    void authenticatedUserIsKeyedByUserId() {
+        MockServerWebExchange exchange = exchange("203.0.113.7");
+        exchange.getAttributes().put(AuthFilter.USER_ID_ATTRIBUTE, 42);
+
+        assertEquals("user:42", new UserOrIpKeyResolver(1).resolve(exchange).block());
+    }
+
+    @Test
+    void forwardedForIsIgnoredWithoutTrustedProxies() {
+        assertEquals("ip:10.0.0.5", new UserOrIpKeyResolver(0).resolve(exchange("203.0.113.7")).block());
+    }
+
+    @Test
+    void clientAddressIsTakenFromTheTrustedHop() {
+        assertEquals("ip:203.0.113.7", new UserOrIpKeyResolver(1).resolve(exchange("203.0.113.7")).block());
+    }
+
+    @Test
+    void entriesLeftOfTheTrustedHopsCannotPickTheBucket() {
+        // The client prepended a forged address; our single proxy appended the real one
+        MockServerWebExchange exchange = exchange("198.51.100.1, 203.0.113.7");
+
+        assertEquals("ip:203.0.113.7", new UserOrIpKeyResolver(1).resolve(exchange).block());
+    }
+
+    @Test
+    void missingHeaderFallsBackToTheConnection() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("/users/login").remoteAddress(PROXY));
+
+        assertEquals("ip:10.0.0.5", new UserOrIpKeyResolver(1).resolve(exchange).block());
+    }
+
+    private static MockServerWebExchange exchange(String forwardedFor) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/users/login")
+                .remoteAddress(PROXY)
+                .header("X-Forwarded-For", forwardedFor));
+    }
+}
@@ -0,0 +1,73 @@
+package com.gateway.api_gateway.security;
+
+import com.gateway.api_gateway.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthFilterTest {
+
+    // The key JwtUtil verifies with (user-service signs with the same one)
+    private static final String SECRET = "WnZr4u7x!A%D*G-KaPdSgUkXp2s5v8y/B?E(H+MbQeThWmZq4t7w9z$C&F)J@NcRf";
+
+    private final GatewayFilter filter = filter();
+
+    @Test
+    void clientMayAskForFreelancersRecommendedForAProject() {
+        assertTrue(passes("/freelancers/project/7/recommended-freelancers", "ROLE_CLIENT"));
+    }
+
+    @Test
+    void freelancerMayNotAskForFreelancersRecommendedForAProject() {
+        assertThrows(RuntimeException.class,
+                () -> passes("/freelancers/project/7/recommended-freelancers", "ROLE_FREELANCER"));
+    }
+
+    @Test
+    void otherFreelancerRoutesStayFreelancerOnly() {
+        assertTrue(passes("/freelancers/42/recommended-projects", "ROLE_FREELANCER"));
+        assertThrows(RuntimeException.class, () -> passes("/freelancers/42/recommended-projects", "ROLE_CLIENT"));
+        assertThrows(RuntimeException.class, () -> passes("/freelancers/profile/42", "ROLE_CLIENT"));
+    }
+
+    private boolean passes(String path, String role) {
+        AtomicBoolean forwarded = new AtomicBoolean();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(role)));
+        filter.filter(exchange, e -> {
+            forwarded.set(true);
+            return Mono.empty();
+        }).block();
+        return forwarded.get();
+    }
+
+    private static String token(String role) {
+        return Jwts.builder()
+                .setSubject("someone@example.com")
+                .claim("role", role)
+                .claim("userId", 42)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static GatewayFilter filter() {
+        AuthFilter authFilter = new AuthFilter();
+        ReflectionTestUtils.setField(authFilter, "validator", new RouteValidator());
+        ReflectionTestUtils.setField(authFilter, "jwtUtil", new JwtUtil());
+        ReflectionTestUtils.setField(authFilter, "observationRegistry", ObservationRegistry.NOOP);
+        return authFilter.apply(new AuthFilter.Config());
+    }
+}
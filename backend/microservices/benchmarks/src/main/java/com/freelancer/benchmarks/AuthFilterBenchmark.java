@@ -0,0 +1,73 @@
+package com.freelancer.benchmarks;
+
+import com.gateway.api_gateway.security.AuthFilter;
+import com.gateway.api_gateway.security.RouteValidator;
+import com.gateway.api_gateway.util.JwtUtil;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The gateway's AuthFilter end to end for a freelancer token: route check, JWT verification, role rules and header
+ * rewriting, against a chain that completes immediately. Building the mock exchange is part of each operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthFilterBenchmark {
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    @Param({"/freelancers/profile/42", "/projects/getProject/7", "/bids/submit"})
+    public String path;
+
+    private final RouteValidator routeValidator = new RouteValidator();
+    private GatewayFilter filter;
+    private String authorization;
+    private MockServerHttpRequest request;
+
+    @Setup
+    public void setUp() {
+        AuthFilter authFilter = new AuthFilter();
+        ReflectionTestUtils.setField(authFilter, "validator", routeValidator);
+        ReflectionTestUtils.setField(authFilter, "jwtUtil", new JwtUtil());
+        ReflectionTestUtils.setField(authFilter, "observationRegistry", ObservationRegistry.NOOP);
+        filter = authFilter.apply(new AuthFilter.Config());
+        authorization = "Bearer " + new com.user.user_service.config.JwtUtil()
+                .generateToken("freelancer42@example.com", "ROLE_FREELANCER", 42L);
+        request = MockServerHttpRequest.get(path).header(HttpHeaders.AUTHORIZATION, authorization).build();
+    }
+
+    @Benchmark
+    public void filter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get(path).header(HttpHeaders.AUTHORIZATION, authorization));
+        filter.filter(exchange, CHAIN).block();
+    }
+
+    @Benchmark
+    public boolean routeValidator() {
+        return routeValidator.isSecured.test(request);
+    }
+}
@@ -0,0 +1,67 @@
+package com.freelancer.benchmarks;
+
+import com.bid.bid_service.dto.BidDto;
+import com.bid.bid_service.model.Bid;
+import com.bid.bid_service.service.BidMapper;
+import com.freelancer.freelancer_service.dto.FreelancerDto;
+import com.freelancer.freelancer_service.model.Freelancer;
+import com.freelancer.freelancer_service.service.FreelancerMapper;
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.model.Project;
+import com.project.project_service.service.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity to DTO mapping of a list response, as BidService, FreelancerService and ProjectService do it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "500"})
+    public int size;
+
+    private List<Bid> bids;
+    private List<Freelancer> freelancers;
+    private List<Project> projects;
+
+    @Setup
+    public void setUp() {
+        bids = Fixtures.bids(size);
+        freelancers = Fixtures.freelancers(size);
+        projects = Fixtures.projects(size);
+    }
+
+    @Benchmark
+    public List<BidDto> bids() {
+        return bids.stream().map(BidMapper::toDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<FreelancerDto> freelancers() {
+        return freelancers.stream().map(FreelancerMapper::toDto).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ProjectDto> projects() {
+        return projects.stream().map(ProjectMapper::toDto).collect(Collectors.toList());
+    }
+}
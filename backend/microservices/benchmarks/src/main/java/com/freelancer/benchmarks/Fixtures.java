@@ -0,0 +1,109 @@
+package com.freelancer.benchmarks;
+
+import com.bid.bid_service.model.Bid;
+import com.bid.bid_service.model.BidStatus;
+import com.freelancer.freelancer_service.model.Freelancer;
+import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * Deterministic sample entities shaped like production rows (seeded, so runs on different commits compare).
+ */
+final class Fixtures {
+
+    static final String[] SKILLS = {
+            "java", "spring boot", "javascript", "react", "node.js", "python", "django", "postgresql", "aws",
+            "docker", "kubernetes", "c++", "c#", "go", "rust", "typescript", "graphql", "kafka", "redis", "figma"
+    };
+
+    static final String[] CATEGORIES = {"Web Development", "Mobile Apps", "Data Science", "Design", "DevOps"};
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    static List<Project> projects(int count) {
+        Random random = new Random(42);
+        List<Project> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Project project = new Project();
+            project.setId(i);
+            project.setClientId(1 + random.nextInt(500));
+            project.setTitle("Build a " + SKILLS[random.nextInt(SKILLS.length)] + " service #" + i);
+            project.setDescription("We need an experienced developer to design, build and deploy a production-ready "
+                    + "backend with tests, CI and documentation. Milestone payments, remote friendly. Ref " + i);
+            project.setBudget(500.0 + random.nextInt(10_000));
+            project.setBudgetMin(300.0);
+            project.setBudgetMax(15_000.0);
+            project.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            project.setCategoryId((short) random.nextInt(CATEGORIES.length));
+            project.setDeadline(LocalDate.of(2025, 3, 1).plusDays(random.nextInt(90)));
+            project.setDuration(Duration.ofDays(7 + random.nextInt(60)));
+            project.setStatus(ProjectStatus.OPEN);
+            project.setCreatedAt(NOW.minusHours(random.nextInt(2_000)));
+            project.setUpdatedAt(NOW);
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    static List<Bid> bids(int count) {
+        Random random = new Random(42);
+        List<Bid> bids = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Bid bid = new Bid();
+            bid.setBidId(i);
+            bid.setProjectId(1 + random.nextInt(1_000));
+            bid.setFreelancerId(1 + random.nextInt(2_000));
+            bid.setProposalText("I have delivered similar projects and can start immediately. Proposal " + i);
+            bid.setBidAmount(200.0 + random.nextInt(5_000));
+            bid.setStatus(BidStatus.PENDING);
+            bid.setCreatedAt(NOW.minusMinutes(random.nextInt(100_000)));
+            bid.setUpdatedAt(NOW);
+            bids.add(bid);
+        }
+        return bids;
+    }
+
+    static List<Freelancer> freelancers(int count) {
+        Random random = new Random(42);
+        List<Freelancer> freelancers = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Freelancer freelancer = new Freelancer();
+            freelancer.setFreelancerId(i);
+            freelancer.setUserId(10_000 + i);
+            freelancer.setName("Freelancer " + i);
+            freelancer.setEmail("freelancer" + i + "@example.com");
+            freelancer.setSkills(skills(random, 3 + random.nextInt(4)));
+            freelancer.setRating(3.0 + random.nextInt(20) / 10.0);
+            freelancer.setCompletedProjects(random.nextInt(80));
+            freelancer.setAvailabilityStatus(random.nextBoolean() ? "AVAILABLE" : "BUSY");
+            freelancer.setProfileSummary("Full-stack engineer with a focus on reliable backends.");
+            freelancer.setPortfolioLink("https://portfolio.example.com/" + i);
+            freelancer.setLocation("Remote");
+            freelancer.setLanguages("English, Hindi");
+            freelancer.setHourlyRate(String.valueOf(15 + random.nextInt(100)));
+            freelancer.setCreatedAt(NOW.minusDays(random.nextInt(700)));
+            freelancer.setUpdatedAt(NOW);
+            freelancers.add(freelancer);
+        }
+        return freelancers;
+    }
+
+    private static String skills(Random random, int count) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (int i = 0; i < count; i++) {
+            joiner.add(SKILLS[random.nextInt(SKILLS.length)]);
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.freelancer.benchmarks;
+
+import com.bid.bid_service.dto.BidDto;
+import com.bid.bid_service.service.BidMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.freelancer.freelancer_service.dto.FreelancerDto;
+import com.freelancer.freelancer_service.service.FreelancerMapper;
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.service.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson encoding of list responses with the mapper settings Spring Boot applies (ISO dates), plus the Smile
+ * encoding negotiated between services: encode/decode cost of a project list in both formats. Payload sizes are
+ * printed once at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final TypeReference<List<ProjectDto>> PROJECT_LIST = new TypeReference<>() {
+    };
+
+    @Param({"20", "500"})
+    public int size;
+
+    private final ObjectMapper json = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final ObjectMapper smile = SmileMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private List<ProjectDto> projects;
+    private List<BidDto> bids;
+    private List<FreelancerDto> freelancers;
+    private byte[] projectsJson;
+    private byte[] projectsSmile;
+
+    @Setup
+    public void setUp() throws IOException {
+        projects = Fixtures.projects(size).stream().map(ProjectMapper::toDto).toList();
+        bids = Fixtures.bids(size).stream().map(BidMapper::toDto).toList();
+        freelancers = Fixtures.freelancers(size).stream().map(FreelancerMapper::toDto).toList();
+        projectsJson = json.writeValueAsBytes(projects);
+        projectsSmile = smile.writeValueAsBytes(projects);
+        System.out.printf("%n%d projects: JSON %d bytes, Smile %d bytes%n", size, projectsJson.length, projectsSmile.length);
+    }
+
+    @Benchmark
+    public byte[] writeProjectsJson() throws IOException {
+        return json.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public byte[] writeProjectsSmile() throws IOException {
+        return smile.writeValueAsBytes(projects);
+    }
+
+    @Benchmark
+    public List<ProjectDto> readProjectsJson() throws IOException {
+        return json.readValue(projectsJson, PROJECT_LIST);
+    }
+
+    @Benchmark
+    public List<ProjectDto> readProjectsSmile() throws IOException {
+        return smile.readValue(projectsSmile, PROJECT_LIST);
+    }
+
+    @Benchmark
+    public byte[] writeBidsJson() throws IOException {
+        return json.writeValueAsBytes(bids);
+    }
+
+    @Benchmark
+    public byte[] writeFreelancersJson() throws IOException {
+        return json.writeValueAsBytes(freelancers);
+    }
+}
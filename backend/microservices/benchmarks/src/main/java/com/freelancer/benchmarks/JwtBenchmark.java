@@ -0,0 +1,58 @@
+package com.freelancer.benchmarks;
+
+import com.gateway.api_gateway.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue (user-service login) and verification (gateway, once per authenticated request).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private final com.user.user_service.config.JwtUtil issuer = new com.user.user_service.config.JwtUtil();
+    private final JwtUtil verifier = new JwtUtil();
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = issuer.generateToken("freelancer42@example.com", "ROLE_FREELANCER", 42L);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return issuer.generateToken("freelancer42@example.com", "ROLE_FREELANCER", 42L);
+    }
+
+    @Benchmark
+    public void validateToken() {
+        verifier.validateToken(token);
+    }
+
+    /**
+     * What AuthFilter does per request: validate, then parse the token again for each claim it reads.
+     */
+    @Benchmark
+    public void validateAndExtractClaims(Blackhole blackhole) {
+        verifier.validateToken(token);
+        blackhole.consume(verifier.extractRole(token));
+        blackhole.consume(verifier.extractUsername(token));
+        blackhole.consume(verifier.extractUserId(token));
+    }
+}
@@ -0,0 +1,94 @@
+package com.freelancer.benchmarks;
+
+import com.freelancer.freelancer_service.matching.SkillVector;
+import com.freelancer.freelancer_service.matching.SkillVocabulary;
+import com.freelancer.freelancer_service.model.Freelancer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finding freelancers with a skill over 10k profiles. {@code substring} is what
+ * {@code FreelancerRepository.findBySkillContaining} asks the database for (and matches "java" inside
+ * "javascript"); {@code splitSkills} parses the comma-separated field per query; {@code interned} looks the skill
+ * up once and binary-searches the pre-built skill vectors the matching engine keeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkillMatchingBenchmark {
+
+    private static final int FREELANCERS = 10_000;
+
+    @Param({"java", "node.js", "kubernetes"})
+    public String skill;
+
+    private String[] skillFields;
+    private SkillVocabulary vocabulary;
+    private SkillVector[] vectors;
+
+    @Setup
+    public void setUp() {
+        List<Freelancer> freelancers = Fixtures.freelancers(FREELANCERS);
+        skillFields = freelancers.stream().map(Freelancer::getSkills).toArray(String[]::new);
+        vocabulary = new SkillVocabulary();
+        vectors = new SkillVector[FREELANCERS];
+        for (int i = 0; i < FREELANCERS; i++) {
+            vectors[i] = SkillVector.of(SkillVocabulary.splitSkills(skillFields[i]).stream()
+                    .map(vocabulary::intern)
+                    .toList());
+        }
+    }
+
+    @Benchmark
+    public int substring() {
+        int matches = 0;
+        for (String skills : skillFields) {
+            if (skills.contains(skill)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int splitSkills() {
+        int matches = 0;
+        for (String skills : skillFields) {
+            if (SkillVocabulary.splitSkills(skills).contains(skill)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int interned() {
+        int id = vocabulary.lookup(skill);
+        if (id < 0) {
+            return 0;
+        }
+        int matches = 0;
+        for (SkillVector vector : vectors) {
+            if (Arrays.binarySearch(vector.ids(), id) >= 0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
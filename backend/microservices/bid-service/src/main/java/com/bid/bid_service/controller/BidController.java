@@ -5,8 +5,10 @@ import com.bid.bid_service.dto.BidRequest;
 import com.bid.bid_service.service.BidService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -34,16 +36,38 @@ public class BidController {
      * Get all bids for a specific project (used by client to review proposals).
      */
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<BidDto>> getBidsByProject(@PathVariable Integer projectId) {
-        return ResponseEntity.ok(bidService.getBidsByProject(projectId));
+    public ResponseEntity<List<BidDto>> getBidsByProject(@PathVariable Integer projectId,
+                                                         @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(bidService.getBidsByProject(projectId, includeArchived));
+    }
+
+    /**
+     * Stream incremental bid updates for a project to its owning client (server-sent events).
+     * Reconnecting clients send Last-Event-ID to resume; a RESYNC event means the full list must be reloaded.
+     */
+    @GetMapping(value = "/project/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBidsByProject(@PathVariable Integer projectId,
+                                          @RequestHeader(value = "userId", required = false) String userId,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        Integer clientUserId = userId != null ? Integer.valueOf(userId) : null;
+        return bidService.streamBidsForProject(projectId, clientUserId, lastEventId);
     }
 
     /**
      * Get all bids submitted by a specific freelancer.
      */
     @GetMapping("/freelancer/{freelancerId}")
-    public ResponseEntity<List<BidDto>> getBidsByFreelancer(@PathVariable Integer freelancerId) {
-        return ResponseEntity.ok(bidService.getBidsByFreelancer(freelancerId));
+    public ResponseEntity<List<BidDto>> getBidsByFreelancer(@PathVariable Integer freelancerId,
+                                                            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(bidService.getBidsByFreelancer(freelancerId, includeArchived));
+    }
+
+    /**
+     * Reject all pending bids on the given projects (internal, called by project-service on expiry).
+     */
+    @PutMapping("/projects/reject-pending")
+    public ResponseEntity<Integer> rejectPendingBids(@RequestBody List<Integer> projectIds) {
+        return ResponseEntity.ok(bidService.rejectPendingBidsForProjects(projectIds));
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.bid.bid_service.dao;
+
+import com.bid.bid_service.model.Bid;
+import com.bid.bid_service.model.BidStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access to {@code bids_archive}, the month-partitioned home of rejected bids past the retention window.
+ * Plain JDBC because the archive is not a JPA entity and partitions are created dynamically.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BidArchiveRepository {
+
+    private static final String COLUMNS = "bid_id, project_id, freelancer_id, proposal_text, bid_amount, status, "
+            + "created_at, updated_at";
+
+    private static final String RESOLVED = "status = 'REJECTED'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<LocalDate> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public boolean archiveExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('bids_archive') IS NOT NULL", Boolean.class));
+    }
+
+    /**
+     * First day of every month that holds at least one archivable bid.
+     */
+    public List<LocalDate> pendingMonths(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(date_trunc('month', updated_at) AS date) FROM bids_table "
+                        + "WHERE " + RESOLVED + " AND updated_at < ?",
+                LocalDate.class, Timestamp.valueOf(cutoff));
+    }
+
+    public void ensurePartition(LocalDate month) {
+        if (knownPartitions.contains(month)) {
+            return;
+        }
+        LocalDate from = month.withDayOfMonth(1);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS bids_archive_y%04dm%02d PARTITION OF bids_archive "
+                        + "FOR VALUES FROM ('%s') TO ('%s')",
+                from.getYear(), from.getMonthValue(), from, from.plusMonths(1)));
+        knownPartitions.add(month);
+    }
+
+    /**
+     * Moves up to {@code limit} rejected bids last updated before {@code cutoff} into the archive in one statement.
+     */
+    public int moveBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM bids_table WHERE bid_id IN ("
+                        + "SELECT bid_id FROM bids_table WHERE " + RESOLVED + " AND updated_at < ? "
+                        + "ORDER BY updated_at LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *) "
+                        + "INSERT INTO bids_archive (" + COLUMNS + ", closed_at) "
+                        + "SELECT " + COLUMNS + ", updated_at FROM moved",
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    public List<Bid> findByProjectId(Integer projectId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM bids_archive WHERE project_id = ?", ROW_MAPPER, projectId);
+    }
+
+    public List<Bid> findByFreelancerId(Integer freelancerId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM bids_archive WHERE freelancer_id = ?", ROW_MAPPER, freelancerId);
+    }
+
+    private static final RowMapper<Bid> ROW_MAPPER = (rs, rowNum) -> {
+        Bid bid = new Bid();
+        bid.setBidId(rs.getInt("bid_id"));
+        bid.setProjectId(rs.getObject("project_id", Integer.class));
+        bid.setFreelancerId(rs.getObject("freelancer_id", Integer.class));
+        bid.setProposalText(rs.getString("proposal_text"));
+        bid.setBidAmount(rs.getObject("bid_amount", Double.class));
+        bid.setStatus(BidStatus.valueOf(rs.getString("status")));
+        bid.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        bid.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return bid;
+    };
+}
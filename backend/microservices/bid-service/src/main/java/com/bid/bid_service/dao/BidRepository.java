@@ -5,6 +5,7 @@ import com.bid.bid_service.model.BidStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,5 +13,6 @@ public interface BidRepository extends JpaRepository<Bid, Integer> {
     List<Bid> findByProjectId(Integer projectId);
     List<Bid> findByFreelancerId(Integer freelancerId);
     List<Bid> findByProjectIdAndStatus(Integer projectId, BidStatus status);
+    List<Bid> findByProjectIdInAndStatus(Collection<Integer> projectIds, BidStatus status);
     boolean existsByProjectIdAndFreelancerId(Integer projectId, Integer freelancerId);
 }
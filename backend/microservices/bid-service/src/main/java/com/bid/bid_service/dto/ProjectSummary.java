@@ -0,0 +1,17 @@
+package com.bid.bid_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Subset of project-service's ProjectDto that bid-service needs; unknown fields are ignored on decode.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSummary {
+    private Integer id;
+    private Integer clientId;
+    private String status;
+}
@@ -0,0 +1,39 @@
+package com.bid.bid_service.event;
+
+import com.bid.bid_service.model.Bid;
+import com.bid.bid_service.model.BidStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Incremental bid update streamed to the owning client. Proposal text is deliberately left out
+ * to keep deltas small; it can be fetched with GET /bids/{bidId} when needed.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BidEvent {
+    private long eventId;
+    private BidEventType type;
+    private Integer bidId;
+    private Integer projectId;
+    private Integer freelancerId;
+    private Double bidAmount;
+    private BidStatus status;
+    private LocalDateTime occurredAt;
+
+    public static BidEvent of(BidEventType type, Bid bid) {
+        BidEvent event = new BidEvent();
+        event.setType(type);
+        event.setBidId(bid.getBidId());
+        event.setProjectId(bid.getProjectId());
+        event.setFreelancerId(bid.getFreelancerId());
+        event.setBidAmount(bid.getBidAmount());
+        event.setStatus(bid.getStatus());
+        event.setOccurredAt(LocalDateTime.now());
+        return event;
+    }
+}
@@ -0,0 +1,155 @@
+package com.bid.bid_service.event;
+
+import com.freelancer.commons.sse.SseSubscriber;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams bid events per project over server-sent events. Each project keeps a small replay buffer
+ * so a reconnecting client can resume from its Last-Event-ID instead of reloading every bid.
+ * Events are dispatched after the surrounding transaction commits. The committing thread only queues them on
+ * each subscriber's bounded outbox; a small sender pool writes them out and drops subscribers that fall behind.
+ */
+@Component
+public class BidEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(BidEventPublisher.class);
+
+    private final Map<Integer, ProjectStream> streams = new ConcurrentHashMap<>();
+    // Seeded from the clock so ids keep increasing across restarts and stale Last-Event-IDs trigger a resync
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    @Value("${bid.stream.replay-buffer-size:256}")
+    private int replayBufferSize;
+
+    @Value("${bid.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${bid.stream.idle-eviction-ms:3600000}")
+    private long idleEvictionMs;
+
+    @Value("${bid.stream.subscriber-buffer:64}")
+    private int subscriberBuffer;
+
+    private final ThreadPoolExecutor sender;
+
+    public BidEventPublisher(@Value("${bid.stream.sender-threads:4}") int senderThreads,
+                             @Value("${bid.stream.max-queued-subscribers:10000}") int maxQueuedSubscribers) {
+        this.sender = SseSubscriber.senderPool("bid-stream-sender", senderThreads, maxQueuedSubscribers);
+    }
+
+    public SseEmitter subscribe(Integer projectId, Long lastEventId) {
+        SseEmitter emitter = newEmitter();
+        ProjectStream stream = activeStream(projectId);
+        // Room for a full replay on top of the live backlog, so resuming never overflows the outbox by itself
+        SseSubscriber subscriber = new SseSubscriber(emitter, sender, replayBufferSize + subscriberBuffer,
+                s -> unsubscribe(stream, s, projectId));
+
+        // Replay and registration happen under the stream lock so no event is missed or sent twice
+        synchronized (stream) {
+            stream.subscribers.add(subscriber);
+            if (lastEventId != null) {
+                if (lastEventId < stream.knownFrom) {
+                    BidEvent resync = new BidEvent();
+                    resync.setType(BidEventType.RESYNC);
+                    resync.setProjectId(projectId);
+                    resync.setEventId(eventSequence.get());
+                    subscriber.offer(toSse(resync));
+                } else {
+                    for (BidEvent event : stream.buffer) {
+                        if (event.getEventId() > lastEventId) {
+                            subscriber.offer(toSse(event));
+                        }
+                    }
+                }
+            }
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBidEvent(BidEvent event) {
+        ProjectStream stream = activeStream(event.getProjectId());
+        synchronized (stream) {
+            event.setEventId(eventSequence.incrementAndGet());
+            stream.buffer.addLast(event);
+            if (stream.buffer.size() > replayBufferSize) {
+                stream.knownFrom = stream.buffer.removeFirst().getEventId();
+            }
+            stream.lastActivity = System.currentTimeMillis();
+            for (SseSubscriber subscriber : stream.subscribers) {
+                subscriber.offer(toSse(event));
+            }
+        }
+    }
+
+    /**
+     * Keeps idle connections open, prunes dead subscribers and drops buffers of projects nobody watches any more.
+     */
+    @Scheduled(fixedRateString = "${bid.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        streams.values().forEach(stream -> stream.subscribers.forEach(SseSubscriber::heartbeat));
+        streams.entrySet().removeIf(e -> e.getValue().subscribers.isEmpty() && now - e.getValue().lastActivity > idleEvictionMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streams.values().forEach(stream -> stream.subscribers.forEach(SseSubscriber::complete));
+        sender.shutdown();
+    }
+
+    // Overridden in tests to record what a subscriber is sent
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeoutMs);
+    }
+
+    private ProjectStream activeStream(Integer projectId) {
+        // Touch under compute so a concurrent idle eviction cannot remove a stream that is about to be used
+        return streams.compute(projectId, (id, existing) -> {
+            ProjectStream stream = existing != null ? existing : new ProjectStream(eventSequence.get());
+            stream.lastActivity = System.currentTimeMillis();
+            return stream;
+        });
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(BidEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getEventId()))
+                .name(event.getType().name())
+                .data(event);
+    }
+
+    private static void unsubscribe(ProjectStream stream, SseSubscriber subscriber, Integer projectId) {
+        stream.subscribers.remove(subscriber);
+        if (subscriber.fellBehind()) {
+            log.debug("Dropped bid stream subscriber for project {} that fell behind", projectId);
+        }
+    }
+
+    private static final class ProjectStream {
+        private final ArrayDeque<BidEvent> buffer = new ArrayDeque<>();
+        private final List<SseSubscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile long lastActivity = System.currentTimeMillis();
+        // Every event of this project with a higher id is still in the buffer
+        private long knownFrom;
+
+        private ProjectStream(long knownFrom) {
+            this.knownFrom = knownFrom;
+        }
+    }
+}
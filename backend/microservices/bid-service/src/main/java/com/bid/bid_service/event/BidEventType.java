@@ -0,0 +1,11 @@
+package com.bid.bid_service.event;
+
+public enum BidEventType {
+    BID_SUBMITTED,
+    BID_ACCEPTED,
+    BID_REJECTED,
+    /**
+     * Sent when the requested Last-Event-ID is older than the replay buffer; the client should reload the full list.
+     */
+    RESYNC
+}
@@ -1,15 +1,20 @@
 package com.bid.bid_service.feign;
 
+import com.bid.bid_service.dto.ProjectSummary;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
-@FeignClient(name = "PROJECT-SERVICE")
+@FeignClient(name = "PROJECT-SERVICE", fallbackFactory = ProjectInterfaceFallbackFactory.class)
 public interface ProjectInterface {
 
     @PutMapping("/projects/{id}/status")
     void updateProjectStatus(@PathVariable Integer id,
                              @RequestParam String status,
                              @RequestParam(required = false) Integer assignedFreelancerId);
+
+    @GetMapping("/projects/getProject/{id}")
+    ProjectSummary getProjectById(@PathVariable Integer id);
 }
@@ -0,0 +1,78 @@
+package com.bid.bid_service.service;
+
+import com.bid.bid_service.dao.BidArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Moves rejected bids older than the retention window from {@code bids_table} into {@code bids_archive},
+ * in small batches separated by a pause so the move never competes with live bidding.
+ */
+@Component
+@RequiredArgsConstructor
+public class BidArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(BidArchiver.class);
+
+    private final BidArchiveRepository bidArchiveRepository;
+
+    @Value("${bid.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bid.archive.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${bid.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${bid.archive.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${bid.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean archiveMissingLogged;
+
+    @Scheduled(initialDelayString = "${bid.archive.initial-delay-ms:120000}",
+            fixedDelayString = "${bid.archive.interval-ms:3600000}")
+    public void archiveRejectedBids() {
+        if (!enabled) {
+            return;
+        }
+        if (!bidArchiveRepository.archiveExists()) {
+            if (!archiveMissingLogged) {
+                archiveMissingLogged = true;
+                log.warn("bids_archive does not exist; run sql-scripts/05_bid_service.sql to enable archiving");
+            }
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        for (LocalDate month : bidArchiveRepository.pendingMonths(cutoff)) {
+            bidArchiveRepository.ensurePartition(month);
+        }
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = bidArchiveRepository.moveBatch(cutoff, batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} rejected bids older than {} days", archived, retentionDays);
+        }
+    }
+}
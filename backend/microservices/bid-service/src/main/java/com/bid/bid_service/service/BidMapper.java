@@ -0,0 +1,26 @@
+package com.bid.bid_service.service;
+
+import com.bid.bid_service.dto.BidDto;
+import com.bid.bid_service.model.Bid;
+
+/**
+ * Entity to DTO mapping for bids, free of Spring dependencies so the benchmarks module can compile it directly.
+ */
+public final class BidMapper {
+
+    private BidMapper() {
+    }
+
+    public static BidDto toDto(Bid bid) {
+        BidDto dto = new BidDto();
+        dto.setBidId(bid.getBidId());
+        dto.setProjectId(bid.getProjectId());
+        dto.setFreelancerId(bid.getFreelancerId());
+        dto.setProposalText(bid.getProposalText());
+        dto.setBidAmount(bid.getBidAmount());
+        dto.setStatus(bid.getStatus());
+        dto.setCreatedAt(bid.getCreatedAt());
+        dto.setUpdatedAt(bid.getUpdatedAt());
+        return dto;
+    }
+}
@@ -1,16 +1,25 @@
 package com.bid.bid_service.service;
 
+import com.bid.bid_service.dao.BidArchiveRepository;
 import com.bid.bid_service.dao.BidRepository;
 import com.bid.bid_service.dto.BidDto;
 import com.bid.bid_service.dto.BidRequest;
+import com.bid.bid_service.dto.ProjectSummary;
+import com.bid.bid_service.event.BidEvent;
+import com.bid.bid_service.event.BidEventPublisher;
+import com.bid.bid_service.event.BidEventType;
 import com.bid.bid_service.feign.ProjectInterface;
 import com.bid.bid_service.model.Bid;
 import com.bid.bid_service.model.BidStatus;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,9 +29,13 @@ import java.util.stream.Collectors;
 public class BidService {
 
     private static final Logger log = LoggerFactory.getLogger(BidService.class);
+    private static final int MAX_BULK_PROJECTS = 1000;
 
     private final BidRepository bidRepository;
     private final ProjectInterface projectInterface;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidEventPublisher bidEventPublisher;
+    private final BidArchiveRepository bidArchiveRepository;
 
     public BidDto submitBid(BidRequest request) {
         if (bidRepository.existsByProjectIdAndFreelancerId(request.getProjectId(), request.getFreelancerId())) {
@@ -35,21 +48,50 @@ public class BidService {
         bid.setBidAmount(request.getBidAmount());
         bid.setStatus(BidStatus.PENDING);
         Bid saved = bidRepository.save(bid);
+        eventPublisher.publishEvent(BidEvent.of(BidEventType.BID_SUBMITTED, saved));
         return mapToDto(saved);
     }
 
-    public List<BidDto> getBidsByProject(Integer projectId) {
-        return bidRepository.findByProjectId(projectId)
+    /**
+     * Opens an incremental bid stream for a project. Only the client that owns the project may subscribe.
+     */
+    public SseEmitter streamBidsForProject(Integer projectId, Integer clientUserId, Long lastEventId) {
+        if (clientUserId == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Missing userId header");
+        }
+        ProjectSummary project = projectInterface.getProjectById(projectId);
+        if (project == null || project.getId() == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found with id: " + projectId);
+        }
+        if (!clientUserId.equals(project.getClientId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Only the project owner can watch its bids");
+        }
+        return bidEventPublisher.subscribe(projectId, lastEventId);
+    }
+
+    /**
+     * Bids on a project; archived (long-rejected) bids are only read when {@code includeArchived} is set.
+     */
+    public List<BidDto> getBidsByProject(Integer projectId, boolean includeArchived) {
+        List<BidDto> bids = bidRepository.findByProjectId(projectId)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            bidArchiveRepository.findByProjectId(projectId).forEach(b -> bids.add(mapToDto(b)));
+        }
+        return bids;
     }
 
-    public List<BidDto> getBidsByFreelancer(Integer freelancerId) {
-        return bidRepository.findByFreelancerId(freelancerId)
+    public List<BidDto> getBidsByFreelancer(Integer freelancerId, boolean includeArchived) {
+        List<BidDto> bids = bidRepository.findByFreelancerId(freelancerId)
                 .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            bidArchiveRepository.findByFreelancerId(freelancerId).forEach(b -> bids.add(mapToDto(b)));
+        }
+        return bids;
     }
 
     @Transactional
@@ -63,6 +105,7 @@ public class BidService {
 
         bid.setStatus(BidStatus.ACCEPTED);
         bidRepository.save(bid);
+        eventPublisher.publishEvent(BidEvent.of(BidEventType.BID_ACCEPTED, bid));
 
         // Reject all other pending bids for this project
         List<Bid> otherBids = bidRepository.findByProjectId(bid.getProjectId());
@@ -70,6 +113,7 @@ public class BidService {
             if (!other.getBidId().equals(bidId) && other.getStatus() == BidStatus.PENDING) {
                 other.setStatus(BidStatus.REJECTED);
                 bidRepository.save(other);
+                eventPublisher.publishEvent(BidEvent.of(BidEventType.BID_REJECTED, other));
             }
         }
 
@@ -90,7 +134,32 @@ public class BidService {
         }
 
         bid.setStatus(BidStatus.REJECTED);
-        return mapToDto(bidRepository.save(bid));
+        Bid saved = bidRepository.save(bid);
+        eventPublisher.publishEvent(BidEvent.of(BidEventType.BID_REJECTED, saved));
+        return mapToDto(saved);
+    }
+
+    /**
+     * Rejects every pending bid on the given projects in one transaction. Called by project-service when
+     * projects expire or are cancelled (retried until it succeeds); returns the number of bids rejected.
+     */
+    @Transactional
+    public int rejectPendingBidsForProjects(List<Integer> projectIds) {
+        if (projectIds == null || projectIds.isEmpty()) {
+            return 0;
+        }
+        if (projectIds.size() > MAX_BULK_PROJECTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + MAX_BULK_PROJECTS + " projects per call");
+        }
+        List<Bid> pending = bidRepository.findByProjectIdInAndStatus(projectIds, BidStatus.PENDING);
+        for (Bid bid : pending) {
+            bid.setStatus(BidStatus.REJECTED);
+        }
+        bidRepository.saveAll(pending);
+        pending.forEach(bid -> eventPublisher.publishEvent(BidEvent.of(BidEventType.BID_REJECTED, bid)));
+        log.info("Rejected {} pending bids across {} closed projects", pending.size(), projectIds.size());
+        return pending.size();
     }
 
     public BidDto getBidById(Integer bidId) {
@@ -100,15 +169,6 @@ public class BidService {
     }
 
     private BidDto mapToDto(Bid bid) {
-        BidDto dto = new BidDto();
-        dto.setBidId(bid.getBidId());
-        dto.setProjectId(bid.getProjectId());
-        dto.setFreelancerId(bid.getFreelancerId());
-        dto.setProposalText(bid.getProposalText());
-        dto.setBidAmount(bid.getBidAmount());
-        dto.setStatus(bid.getStatus());
-        dto.setCreatedAt(bid.getCreatedAt());
-        dto.setUpdatedAt(bid.getUpdatedAt());
-        return dto;
+        return BidMapper.toDto(bid);
     }
 }
@@ -0,0 +1,59 @@
+-- Baseline schema, identical to sql-scripts/05_bid_service.sql and idempotent, so it also runs on
+-- databases created earlier by ddl-auto (baseline-version 0). Later changes go in V2__..., V3__...
+-- here and in the matching sql-scripts file.
+
+-- ============================================================
+-- BID SERVICE - bids_table
+-- Database: bid_service
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS bids_table (
+    bid_id          SERIAL PRIMARY KEY,
+    project_id      INTEGER NOT NULL,
+    freelancer_id   INTEGER NOT NULL,
+    proposal_text   TEXT,
+    bid_amount      DOUBLE PRECISION NOT NULL,
+    status          VARCHAR(50) DEFAULT 'PENDING',
+    created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (project_id, freelancer_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bids_projectid ON bids_table(project_id);
+CREATE INDEX IF NOT EXISTS idx_bids_freelancerid ON bids_table(freelancer_id);
+CREATE INDEX IF NOT EXISTS idx_bids_status ON bids_table(status);
+CREATE INDEX IF NOT EXISTS idx_bids_project_pending ON bids_table(project_id) WHERE status = 'PENDING';
+
+COMMENT ON TABLE bids_table IS 'Bid/Proposal records submitted by freelancers for projects';
+COMMENT ON COLUMN bids_table.status IS 'PENDING, ACCEPTED, or REJECTED';
+COMMENT ON COLUMN bids_table.project_id IS 'References projects_table.id (project-service DB)';
+COMMENT ON COLUMN bids_table.freelancer_id IS 'References freelancers_table.user_id (freelancer-service DB)';
+
+-- ============================================================
+-- bids_archive - rejected bids past the retention window
+-- Range-partitioned by month of closed_at; monthly partitions are created
+-- on demand by the archiver (bids_archive_yYYYYmMM)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS bids_archive (
+    bid_id          INTEGER NOT NULL,
+    project_id      INTEGER NOT NULL,
+    freelancer_id   INTEGER NOT NULL,
+    proposal_text   TEXT,
+    bid_amount      DOUBLE PRECISION NOT NULL,
+    status          VARCHAR(50) NOT NULL,
+    created_at      TIMESTAMP,
+    updated_at      TIMESTAMP,
+    closed_at       TIMESTAMP NOT NULL,
+    archived_at     TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (bid_id, closed_at)
+) PARTITION BY RANGE (closed_at);
+
+CREATE INDEX IF NOT EXISTS idx_bids_archive_projectid ON bids_archive(project_id);
+CREATE INDEX IF NOT EXISTS idx_bids_archive_freelancerid ON bids_archive(freelancer_id);
+
+COMMENT ON TABLE bids_archive IS 'Rejected bids moved out of bids_table';
+COMMENT ON COLUMN bids_archive.closed_at IS 'updated_at at archive time (set by the closing status change); partition key';
+
+-- Archiver candidates: rejected bids by age
+CREATE INDEX IF NOT EXISTS idx_bids_rejected_updated ON bids_table(updated_at) WHERE status = 'REJECTED';
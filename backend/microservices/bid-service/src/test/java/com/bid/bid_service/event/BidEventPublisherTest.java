@@ -0,0 +1,201 @@
+package com.bid.bid_service.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BidEventPublisherTest {
+
+    private static final int PROJECT_ID = 7;
+
+    private final RecordingPublisher publisher = new RecordingPublisher();
+
+    @AfterEach
+    void shutdown() {
+        publisher.shutdown();
+    }
+
+    @Test
+    void reconnectResumesAfterTheLastEventId() {
+        ReflectionTestUtils.setField(publisher, "replayBufferSize", 8);
+        BidEvent first = bidEvent(1);
+        publisher.onBidEvent(first);
+        publisher.onBidEvent(bidEvent(2));
+        publisher.onBidEvent(bidEvent(3));
+
+        publisher.subscribe(PROJECT_ID, first.getEventId());
+
+        assertEquals(List.of(2, 3), bidIds(publisher.lastEmitter().awaitEvents(2)));
+    }
+
+    @Test
+    void subscriberWithoutLastEventIdOnlyGetsLiveEvents() {
+        ReflectionTestUtils.setField(publisher, "replayBufferSize", 8);
+        publisher.onBidEvent(bidEvent(1));
+
+        publisher.subscribe(PROJECT_ID, null);
+        publisher.onBidEvent(bidEvent(2));
+
+        assertEquals(List.of(2), bidIds(publisher.lastEmitter().awaitEvents(1)));
+    }
+
+    @Test
+    void lastEventIdEvictedFromTheBufferTriggersResync() {
+        ReflectionTestUtils.setField(publisher, "replayBufferSize", 2);
+        BidEvent first = bidEvent(1);
+        BidEvent second = bidEvent(2);
+        publisher.onBidEvent(first);
+        publisher.onBidEvent(second);
+        publisher.onBidEvent(bidEvent(3));
+        publisher.onBidEvent(bidEvent(4));
+
+        publisher.subscribe(PROJECT_ID, first.getEventId());
+        List<BidEvent> evicted = publisher.lastEmitter().awaitEvents(1);
+        assertEquals(1, evicted.size());
+        assertEquals(BidEventType.RESYNC, evicted.get(0).getType());
+        assertEquals(PROJECT_ID, evicted.get(0).getProjectId());
+
+        // The oldest id still covered by the buffer resumes normally
+        publisher.subscribe(PROJECT_ID, second.getEventId());
+        assertEquals(List.of(3, 4), bidIds(publisher.lastEmitter().awaitEvents(2)));
+    }
+
+    @Test
+    void lastEventIdFromBeforeARestartTriggersResync() {
+        publisher.subscribe(PROJECT_ID, 1L);
+
+        List<BidEvent> received = publisher.lastEmitter().awaitEvents(1);
+        assertEquals(BidEventType.RESYNC, received.get(0).getType());
+    }
+
+    @Test
+    void eventsAreOnlyPublishedOnceTheirTransactionCommits() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TransactionalEventListenerFactory.class);
+            context.registerBean(RecordingPublisher.class, RecordingPublisher::new);
+            context.refresh();
+            RecordingPublisher listener = context.getBean(RecordingPublisher.class);
+            TransactionTemplate transactions = new TransactionTemplate(new NoOpTransactionManager());
+            listener.subscribe(PROJECT_ID, null);
+
+            BidEvent rolledBack = bidEvent(1);
+            transactions.executeWithoutResult(status -> {
+                context.publishEvent(rolledBack);
+                status.setRollbackOnly();
+            });
+            BidEvent committed = bidEvent(2);
+            transactions.executeWithoutResult(status -> {
+                context.publishEvent(committed);
+                assertEquals(0, committed.getEventId(), "dispatched before the commit");
+            });
+
+            // A single sender thread keeps the order, so a rolled back event would have arrived first
+            assertEquals(List.of(2), bidIds(listener.lastEmitter().awaitEvents(1)));
+            assertEquals(0, rolledBack.getEventId());
+        }
+    }
+
+    private static BidEvent bidEvent(int bidId) {
+        BidEvent event = new BidEvent();
+        event.setType(BidEventType.BID_SUBMITTED);
+        event.setBidId(bidId);
+        event.setProjectId(PROJECT_ID);
+        return event;
+    }
+
+    private static List<Integer> bidIds(List<BidEvent> events) {
+        return events.stream().map(BidEvent::getBidId).toList();
+    }
+
+    static final class RecordingPublisher extends BidEventPublisher {
+        private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+        RecordingPublisher() {
+            super(1, 100);
+            ReflectionTestUtils.setField(this, "emitterTimeoutMs", 60_000L);
+            ReflectionTestUtils.setField(this, "subscriberBuffer", 64);
+        }
+
+        @Override
+        SseEmitter newEmitter() {
+            RecordingEmitter emitter = new RecordingEmitter();
+            emitters.add(emitter);
+            return emitter;
+        }
+
+        RecordingEmitter lastEmitter() {
+            return emitters.get(emitters.size() - 1);
+        }
+    }
+
+    static final class RecordingEmitter extends SseEmitter {
+        private final List<BidEvent> sent = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof BidEvent event) {
+                    sent.add(event);
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+        }
+
+        /**
+         * Waits for the sender pool to deliver at least {@code count} events and returns everything sent so far.
+         */
+        List<BidEvent> awaitEvents(int count) {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (sent.size() < count) {
+                if (System.currentTimeMillis() > deadline) {
+                    fail("expected " + count + " events but got " + sent);
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    fail("interrupted");
+                }
+            }
+            return new ArrayList<>(sent);
+        }
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.client.client_service;
 
+import com.freelancer.commons.feign.FeignHttpClientConfiguration;
+import com.freelancer.commons.feign.FeignResilienceConfiguration;
+import com.freelancer.commons.limit.FeignConcurrencyLimitConfiguration;
+import com.freelancer.commons.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import com.freelancer.commons.observation.RepositoryObservationConfiguration;
+import com.freelancer.commons.smile.FeignSmileConfiguration;
+import com.freelancer.commons.smile.SmileContentNegotiationConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.Import;
 
 @SpringBootApplication
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+@Import({RepositoryObservationConfiguration.class, FeignConcurrencyLimitConfiguration.class,
+		FeignResilienceConfiguration.class, FeignHttpClientConfiguration.class, FeignSmileConfiguration.class,
+		SmileContentNegotiationConfiguration.class})
 @EnableFeignClients
 public class ClientServiceApplication {
 
@@ -6,15 +6,22 @@ import com.client.client_service.dto.ProjectResponse;
 import com.client.client_service.model.Client;
 import com.client.client_service.service.ClientService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+import static com.freelancer.commons.logging.SamplingTurboFilter.SAMPLED;
+
 @RestController
 @RequestMapping("/clients")
 @RequiredArgsConstructor
 public class ClientController {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientController.class);
     private final ClientService clientService;
 
     @PostMapping("/create")
@@ -54,7 +61,7 @@ public class ClientController {
     public ResponseEntity<ProjectResponse> createProject(@RequestBody Project project,
                                                          @RequestHeader("username") String username,
                                                          @RequestHeader("userId") String userId) {
-        System.out.println("Request received to create project by user: " + username + " with userId: " + userId);
+        log.debug(SAMPLED, "Create project requested by userId={}", userId);
         Integer clientId = Integer.parseInt(userId);
         if (clientId != null) {
             project.setClientId(clientId);
@@ -69,4 +76,11 @@ public class ClientController {
         List<ProjectResponse> projects = clientService.getProjectsByUserId(userId);
         return ResponseEntity.ok(projects);
     }
+
+    @GetMapping("/projects/{userId}/ids")
+    public ResponseEntity<Page<Integer>> getClientProjectIds(@PathVariable Integer userId,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(clientService.getProjectIdsByUserId(userId, page, Math.max(1, Math.min(size, 100))));
+    }
 }
@@ -0,0 +1,16 @@
+package com.client.client_service.dao;
+
+import com.client.client_service.model.ClientProject;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClientProjectRepository extends JpaRepository<ClientProject, Long> {
+
+    @Query("SELECT cp.projectId FROM client_projects_table cp WHERE cp.clientId = :clientId")
+    Page<Integer> findProjectIdsByClientId(@Param("clientId") Integer clientId, Pageable pageable);
+}
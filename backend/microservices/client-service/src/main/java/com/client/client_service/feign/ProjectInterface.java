@@ -9,7 +9,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 
 import java.util.List;
 
-@FeignClient(name = "PROJECT-SERVICE")
+@FeignClient(name = "PROJECT-SERVICE", fallbackFactory = ProjectInterfaceFallbackFactory.class)
 public interface ProjectInterface {
 
     @PostMapping("/projects/create")
@@ -0,0 +1,46 @@
+package com.client.client_service.feign;
+
+import com.client.client_service.dto.Project;
+import com.client.client_service.dto.ProjectResponse;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Used when the PROJECT-SERVICE call fails, times out, is rejected by the bulkhead or the circuit is open.
+ * Client errors from project-service are passed through; everything else fails fast with 503.
+ */
+@Component
+public class ProjectInterfaceFallbackFactory implements FallbackFactory<ProjectInterface> {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectInterfaceFallbackFactory.class);
+
+    @Override
+    public ProjectInterface create(Throwable cause) {
+        return new ProjectInterface() {
+            @Override
+            public ProjectResponse createProject(Project project) {
+                throw unavailable("create project", cause);
+            }
+
+            @Override
+            public List<ProjectResponse> getProjectsByClient(Integer clientId) {
+                throw unavailable("load projects of client " + clientId, cause);
+            }
+        };
+    }
+
+    private static RuntimeException unavailable(String action, Throwable cause) {
+        if (cause instanceof FeignException.FeignClientException clientError) {
+            return clientError;
+        }
+        log.warn("PROJECT-SERVICE unavailable, could not {}: {}", action, cause.toString());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Project service unavailable", cause);
+    }
+}
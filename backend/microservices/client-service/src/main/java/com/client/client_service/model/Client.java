@@ -8,8 +8,6 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity(name = "clients_table")
 @Data
@@ -30,8 +28,6 @@ public class Client {
     private String bio;
     private Double rating;
 
-    private List<Integer> projectIds = new ArrayList<>();
-
     @CreationTimestamp
     private LocalDateTime createdAt;
     @UpdateTimestamp
@@ -0,0 +1,37 @@
+package com.client.client_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Association row between a client and a project it posted.
+ * Rows are only ever inserted, so concurrent project creations for the same client never contend on the client row.
+ */
+@Entity(name = "client_projects_table")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_client_projects_client_project",
+        columnNames = {"client_id", "project_id"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientProject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Integer clientId;
+    @Column(nullable = false)
+    private Integer projectId;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    public ClientProject(Integer clientId, Integer projectId) {
+        this.clientId = clientId;
+        this.projectId = projectId;
+    }
+}
@@ -1,12 +1,19 @@
 package com.client.client_service.service;
 
+import com.client.client_service.dao.ClientProjectRepository;
 import com.client.client_service.dao.ClientRepository;
 import com.client.client_service.dto.ClientDto;
 import com.client.client_service.dto.Project;
 import com.client.client_service.dto.ProjectResponse;
 import com.client.client_service.feign.ProjectInterface;
 import com.client.client_service.model.Client;
+import com.client.client_service.model.ClientProject;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -17,7 +24,10 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ClientService {
 
+    private static final Logger log = LoggerFactory.getLogger(ClientService.class);
+
     private final ClientRepository clientRepository;
+    private final ClientProjectRepository clientProjectRepository;
     private final ProjectInterface projectInterface;
 
     public Client getClientDetails(Integer id) {
@@ -25,7 +35,7 @@ public class ClientService {
         if (client.isPresent()) {
             return client.get();
         } else {
-            System.out.println("Client not found with id: " + id);
+            log.debug("Client not found with id: {}", id);
             return null;
         }
     }
@@ -75,16 +85,21 @@ public class ClientService {
         Optional<Client> client = clientRepository.findByUserId(Integer.valueOf(userId));
         if (client.isPresent()) {
             projectResponse = projectInterface.createProject(project);
-            Client projectClient = client.get();
-            if (projectClient.getProjectIds() == null) {
-                projectClient.setProjectIds(new ArrayList<>());
-            }
-            projectClient.getProjectIds().add(projectResponse.getId());
-            clientRepository.save(projectClient);
+            // Append-only insert: the client row itself is never rewritten
+            clientProjectRepository.save(new ClientProject(client.get().getId(), projectResponse.getId()));
         }
         return projectResponse;
     }
 
+    public Page<Integer> getProjectIdsByUserId(Integer userId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "projectId"));
+        Optional<Client> optClient = clientRepository.findByUserId(userId);
+        if (optClient.isPresent()) {
+            return clientProjectRepository.findProjectIdsByClientId(optClient.get().getId(), pageRequest);
+        }
+        return Page.empty(pageRequest);
+    }
+
     public List<ProjectResponse> getProjectsByUserId(Integer userId) {
         Optional<Client> optClient = clientRepository.findByUserId(userId);
         if (optClient.isPresent()) {
@@ -99,7 +114,7 @@ public class ClientService {
         if (client.isPresent()) {
             return client.get().getId();
         } else {
-            System.out.println("Client not found with username: " + username);
+            log.debug("Client not found with username: {}", username);
             return null;
         }
     }
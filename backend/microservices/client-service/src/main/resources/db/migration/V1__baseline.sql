@@ -0,0 +1,60 @@
+-- Baseline schema, identical to sql-scripts/02_client_service.sql and idempotent, so it also runs on
+-- databases created earlier by ddl-auto (baseline-version 0). Later changes go in V2__..., V3__...
+-- here and in the matching sql-scripts file.
+
+-- ============================================================
+-- CLIENT SERVICE - clients_table
+-- Database: freelancer_client
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS clients_table (
+    id              SERIAL PRIMARY KEY,
+    user_id         INTEGER,
+    name            VARCHAR(255),
+    email           VARCHAR(255),
+    password        VARCHAR(255),
+    company_name    VARCHAR(255),
+    website         VARCHAR(500),
+    bio             VARCHAR(1000),
+    rating          DOUBLE PRECISION DEFAULT 0.0,
+    created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_clients_userid ON clients_table(user_id);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_clients_email ON clients_table(email);
+
+COMMENT ON TABLE clients_table IS 'Client profiles linked to user accounts';
+COMMENT ON COLUMN clients_table.user_id IS 'References id in users_table (user-service DB)';
+
+-- ============================================================
+-- client_projects_table - one row per project posted by a client
+-- Append-only; replaces the former clients_table.project_ids array
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS client_projects_table (
+    id              BIGSERIAL PRIMARY KEY,
+    client_id       INTEGER NOT NULL,
+    project_id      INTEGER NOT NULL,
+    created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_client_projects_client_project UNIQUE (client_id, project_id)
+);
+
+COMMENT ON TABLE client_projects_table IS 'Projects posted by each client (append-only association)';
+COMMENT ON COLUMN client_projects_table.client_id IS 'References clients_table.id';
+COMMENT ON COLUMN client_projects_table.project_id IS 'References projects_table.id (project-service DB)';
+
+-- Migration for existing databases: move the old array column into the association table
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'clients_table' AND column_name = 'project_ids') THEN
+        INSERT INTO client_projects_table (client_id, project_id)
+        SELECT c.id, p.project_id
+        FROM clients_table c, unnest(c.project_ids) AS p(project_id)
+        WHERE p.project_id IS NOT NULL
+        ON CONFLICT (client_id, project_id) DO NOTHING;
+
+        ALTER TABLE clients_table DROP COLUMN project_ids;
+    END IF;
+END $$;
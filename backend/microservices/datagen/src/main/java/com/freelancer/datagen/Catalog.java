@@ -0,0 +1,114 @@
+package com.freelancer.datagen;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reference data and sampling helpers behind the synthetic dataset.
+ * <p>
+ * Project categories and freelancer skills share one catalog, so the skills on the freelancer side
+ * line up with the categories clients post in (which is what the matching engine scores). Weights
+ * approximate a general-purpose freelancing marketplace: web work dominates, niche domains are thin.
+ */
+final class Catalog {
+
+    record Category(String name, int weight, double medianBudget, List<String> skills) {
+    }
+
+    static final List<Category> CATEGORIES = List.of(
+            new Category("Web Development", 30, 3000,
+                    List.of("JavaScript", "React", "Node.js", "TypeScript", "HTML", "CSS", "Angular", "Vue.js", "PHP", "Django")),
+            new Category("Backend Development", 14, 4500,
+                    List.of("Java", "Spring Boot", "Python", "PostgreSQL", "Go", "REST APIs", "Microservices", "Docker", "AWS", "Kafka")),
+            new Category("Mobile Development", 14, 5000,
+                    List.of("Kotlin", "Android", "Swift", "iOS", "Flutter", "React Native", "Dart", "Firebase")),
+            new Category("Design", 10, 1200,
+                    List.of("Figma", "UI/UX", "Photoshop", "Illustrator", "Branding", "Sketch")),
+            new Category("Data Science", 9, 6000,
+                    List.of("Python", "SQL", "Pandas", "Machine Learning", "Statistics", "TensorFlow", "PyTorch", "Spark")),
+            new Category("Writing", 8, 400,
+                    List.of("Copywriting", "Technical Writing", "SEO", "Editing", "Content Strategy")),
+            new Category("Marketing", 6, 1500,
+                    List.of("SEO", "Social Media", "Google Ads", "Email Marketing", "Analytics")),
+            new Category("DevOps", 5, 5500,
+                    List.of("Docker", "Kubernetes", "AWS", "Terraform", "CI/CD", "Linux")),
+            new Category("Video & Animation", 4, 1800,
+                    List.of("Premiere Pro", "After Effects", "Motion Graphics", "Blender")));
+
+    static final List<String> LOCATIONS = List.of(
+            "Bengaluru, India", "New York, USA", "London, UK", "Manila, Philippines", "Lagos, Nigeria",
+            "Kyiv, Ukraine", "Sao Paulo, Brazil", "Berlin, Germany", "Karachi, Pakistan", "Toronto, Canada",
+            "Dhaka, Bangladesh", "Mexico City, Mexico");
+
+    static final List<String> LANGUAGES = List.of("English", "English,Hindi", "English,Spanish",
+            "English,German", "English,Portuguese", "English,French");
+
+    static final List<String> TASKS = List.of("landing page", "API integration", "bug fixes", "MVP build",
+            "performance tuning", "redesign", "data pipeline", "maintenance contract", "prototype", "audit");
+
+    private static final int TOTAL_WEIGHT = CATEGORIES.stream().mapToInt(Category::weight).sum();
+
+    /** Filler for descriptions and proposals; rows take substrings of it instead of building new text. */
+    static final String LOREM;
+
+    static {
+        String sentence = "We are looking for an experienced professional to deliver a reliable, well-tested solution "
+                + "with clear communication, regular progress updates and documentation for handover. ";
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 2100) {
+            text.append(sentence);
+        }
+        LOREM = text.toString();
+    }
+
+    private Catalog() {
+    }
+
+    static int category(SplittableRandom rng) {
+        int pick = rng.nextInt(TOTAL_WEIGHT);
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            pick -= CATEGORIES.get(i).weight();
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return CATEGORIES.size() - 1;
+    }
+
+    /**
+     * Index in {@code [0, n)} biased towards 0: {@code power = 1} is uniform, larger powers concentrate
+     * more of the mass on the first few indices (a cheap stand-in for a Zipf draw).
+     */
+    static int skewed(SplittableRandom rng, int n, double power) {
+        return Math.min(n - 1, (int) (n * Math.pow(rng.nextDouble(), power)));
+    }
+
+    /** Log-normal draw around {@code median}, rounded to {@code step}. */
+    static double logNormal(SplittableRandom rng, double median, double sigma, double step) {
+        double value = median * Math.exp(sigma * gaussian(rng));
+        return Math.max(step, Math.round(value / step) * step);
+    }
+
+    /**
+     * Pareto-tailed count with the given mean: most draws are small, a few are very large.
+     */
+    static int heavyTailed(SplittableRandom rng, double mean, double alpha) {
+        if (mean <= 0) {
+            return 0;
+        }
+        double scale = mean * (alpha - 1) / alpha;
+        return (int) Math.floor(scale / Math.pow(1.0 - rng.nextDouble(), 1.0 / alpha));
+    }
+
+    static String lorem(SplittableRandom rng, int length) {
+        int start = rng.nextInt(LOREM.length() - length + 1);
+        return LOREM.substring(start, start + length).trim();
+    }
+
+    private static double gaussian(SplittableRandom rng) {
+        // Box-Muller; SplittableRandom has no nextGaussian on Java 17
+        double u1 = 1.0 - rng.nextDouble();
+        double u2 = rng.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,106 @@
+package com.freelancer.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Streams rows into one table through {@code COPY ... FROM STDIN} in PostgreSQL's text format.
+ * <p>
+ * Rows are encoded straight into the copy stream, so memory stays flat no matter how many rows are
+ * written, and the server sees one statement instead of millions of INSERTs.
+ */
+final class CopyWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer out;
+    private boolean firstField = true;
+    private long rows;
+
+    CopyWriter(Connection connection, String table, String... columns) throws SQLException {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN";
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection.unwrap(PGConnection.class), sql, BUFFER_SIZE);
+        this.out = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    CopyWriter text(String value) throws IOException {
+        if (value == null) {
+            return nul();
+        }
+        separator();
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+        return this;
+    }
+
+    CopyWriter number(long value) throws IOException {
+        separator();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    CopyWriter number(double value) throws IOException {
+        separator();
+        out.write(Double.toString(value));
+        return this;
+    }
+
+    CopyWriter date(LocalDate value) throws IOException {
+        return value == null ? nul() : raw(value.toString());
+    }
+
+    CopyWriter timestamp(LocalDateTime value) throws IOException {
+        return value == null ? nul() : raw(value.toString());
+    }
+
+    CopyWriter nul() throws IOException {
+        return raw("\\N");
+    }
+
+    void endRow() throws IOException {
+        out.write('\n');
+        firstField = true;
+        rows++;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    /** Flushes the remaining rows and ends the COPY; the server validates and commits it here. */
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private CopyWriter raw(String value) throws IOException {
+        separator();
+        out.write(value);
+        return this;
+    }
+
+    private void separator() throws IOException {
+        if (!firstField) {
+            out.write('\t');
+        }
+        firstField = false;
+    }
+}
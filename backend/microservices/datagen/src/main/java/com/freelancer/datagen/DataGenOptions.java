@@ -0,0 +1,62 @@
+package com.freelancer.datagen;
+
+/**
+ * Command-line options for {@link DataGenerator}, parsed from {@code --name=value} pairs.
+ */
+record DataGenOptions(int users,
+                      double clientShare,
+                      int projects,
+                      double avgBidsPerProject,
+                      long seed,
+                      String jdbcUrl,
+                      String username,
+                      String password,
+                      String userPassword,
+                      boolean truncate) {
+
+    static DataGenOptions parse(String[] args) {
+        int users = 1_000_000;
+        double clientShare = 0.2;
+        int projects = 500_000;
+        double avgBids = 8.0;
+        long seed = 42L;
+        String jdbcUrl = "jdbc:postgresql://localhost:5432";
+        String username = "postgres";
+        String password = "aryan";
+        String userPassword = "Password123!";
+        boolean truncate = false;
+
+        for (String arg : args) {
+            if (arg.equals("--truncate")) {
+                truncate = true;
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "users" -> users = Integer.parseInt(value.replace("_", ""));
+                case "client-share" -> clientShare = Double.parseDouble(value);
+                case "projects" -> projects = Integer.parseInt(value.replace("_", ""));
+                case "avg-bids" -> avgBids = Double.parseDouble(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "jdbc-url" -> jdbcUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                case "username" -> username = value;
+                case "password" -> password = value;
+                case "user-password" -> userPassword = value;
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (users < 2 || clientShare <= 0 || clientShare >= 1) {
+            throw new IllegalArgumentException("Need at least one client and one freelancer: check --users and --client-share");
+        }
+        if (projects < 0 || avgBids < 0) {
+            throw new IllegalArgumentException("--projects and --avg-bids must not be negative");
+        }
+        return new DataGenOptions(users, clientShare, projects, avgBids, seed, jdbcUrl, username, password,
+                userPassword, truncate);
+    }
+}
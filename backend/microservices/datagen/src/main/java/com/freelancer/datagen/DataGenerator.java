@@ -0,0 +1,348 @@
+package com.freelancer.datagen;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a marketplace-scale dataset and bulk-loads it into the per-service databases with COPY.
+ * <p>
+ * Usage: {@code java -jar target/datagen.jar [--users=1000000] [--client-share=0.2] [--projects=500000]
+ * [--avg-bids=8] [--seed=42] [--jdbc-url=jdbc:postgresql://localhost:5432] [--username=postgres]
+ * [--password=aryan] [--user-password=Password123!] [--truncate]}.
+ * <p>
+ * The schema must already exist (sql-scripts/00-05, or a first start of each service). Every
+ * synthetic user can log in as {@code user<id>@synthetic.example} with {@code --user-password}.
+ * {@code --truncate} empties the generated tables first; without it rows are appended after the
+ * existing ids. The same seed always produces the same dataset.
+ */
+public final class DataGenerator {
+
+    static final String USER_DB = "freelancer_user";
+    static final String CLIENT_DB = "freelancer_client";
+    static final String FREELANCER_DB = "freelancer_db";
+    static final String PROJECT_DB = "project_service";
+    static final String BID_DB = "bid_service";
+
+    @FunctionalInterface
+    private interface TableLoader {
+        long load(Connection connection) throws Exception;
+    }
+
+    private final DataGenOptions options;
+    private final MarketplacePlan plan;
+    private final short[] categoryIds;
+    private final String passwordHash;
+
+    private DataGenerator(DataGenOptions options, MarketplacePlan plan, short[] categoryIds, String passwordHash) {
+        this.options = options;
+        this.plan = plan;
+        this.categoryIds = categoryIds;
+        this.passwordHash = passwordHash;
+    }
+
+    public static void main(String[] args) throws Exception {
+        DataGenOptions options = DataGenOptions.parse(args);
+        if (options.truncate()) {
+            truncate(options);
+        }
+        MarketplacePlan plan = MarketplacePlan.create(options, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
+                maxId(options, USER_DB, "users_table", "id"),
+                maxId(options, CLIENT_DB, "clients_table", "id"),
+                maxId(options, PROJECT_DB, "projects_table", "id"));
+        short[] categoryIds = internCategories(options);
+        String passwordHash = new BCryptPasswordEncoder().encode(options.userPassword());
+        System.out.printf(Locale.ROOT, "Generating %,d users (%,d clients, %,d freelancers), %,d projects, ~%.1f bids/project%n",
+                plan.users(), plan.clientCount(), plan.freelancerCount(), plan.projects(), options.avgBidsPerProject());
+
+        new DataGenerator(options, plan, categoryIds, passwordHash).run();
+    }
+
+    /** Each database gets its own connection and COPY stream, so the five loads run side by side. */
+    private void run() throws Exception {
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<String>> loads = new ArrayList<>();
+            loads.add(pool.submit(() -> load(USER_DB, "users_table", this::loadUsers,
+                    "SELECT setval(pg_get_serial_sequence('users_table', 'id'), (SELECT MAX(id) FROM users_table))",
+                    "ANALYZE users_table")));
+            loads.add(pool.submit(() -> load(CLIENT_DB, "clients_table + client_projects", this::loadClients,
+                    "SELECT setval(pg_get_serial_sequence('clients_table', 'id'), (SELECT MAX(id) FROM clients_table))",
+                    "ANALYZE clients_table",
+                    "ANALYZE client_projects_table")));
+            loads.add(pool.submit(() -> load(FREELANCER_DB, "freelancers_table", this::loadFreelancers,
+                    "ANALYZE freelancers_table")));
+            loads.add(pool.submit(() -> load(PROJECT_DB, "projects_table", this::loadProjects,
+                    "SELECT setval(pg_get_serial_sequence('projects_table', 'id'), (SELECT MAX(id) FROM projects_table))",
+                    "ANALYZE projects_table")));
+            loads.add(pool.submit(() -> load(BID_DB, "bids_table", this::loadBids,
+                    "ANALYZE bids_table")));
+            for (Future<String> load : loads) {
+                System.out.println(load.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        System.out.printf(Locale.ROOT, "Done in %.1fs. Restart project-service so its in-memory counters and caches"
+                + " reconcile with the new rows.%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    private String load(String database, String label, TableLoader loader, String... afterLoad) throws Exception {
+        long start = System.nanoTime();
+        try (Connection connection = connect(options, database)) {
+            try (Statement statement = connection.createStatement()) {
+                // Bulk load is re-runnable from the seed, so losing the tail on a crash is acceptable
+                statement.execute("SET synchronous_commit = off");
+            }
+            long rows = loader.load(connection);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : afterLoad) {
+                    statement.execute(sql);
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            return String.format(Locale.ROOT, "  %-34s %,14d rows %9.1fs %,12.0f rows/s",
+                    database + "." + label, rows, seconds, rows / Math.max(seconds, 1e-3));
+        }
+    }
+
+    private long loadUsers(Connection connection) throws Exception {
+        try (CopyWriter copy = new CopyWriter(connection, "users_table",
+                "id", "name", "user_name", "password", "role", "created_at", "updated_at")) {
+            for (int i = 0; i < plan.users(); i++) {
+                int id = plan.userId(i);
+                LocalDateTime createdAt = plan.userCreatedAt(i);
+                copy.number(id)
+                        .text("Synthetic User " + id)
+                        .text(email(id))
+                        .text(passwordHash)
+                        .number(plan.isClient(i) ? 1 : 0) // UserRole ordinal: 0 = FREELANCER, 1 = CLIENT
+                        .timestamp(createdAt)
+                        .timestamp(createdAt)
+                        .endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long loadClients(Connection connection) throws Exception {
+        long rows;
+        try (CopyWriter copy = new CopyWriter(connection, "clients_table",
+                "id", "user_id", "name", "email", "company_name", "bio", "rating", "created_at", "updated_at")) {
+            for (int c = 0; c < plan.clientCount(); c++) {
+                int userIndex = plan.clientUserIndex(c);
+                int userId = plan.userId(userIndex);
+                SplittableRandom rng = plan.profileRandom(userIndex);
+                LocalDateTime createdAt = plan.userCreatedAt(userIndex);
+                copy.number(plan.clientRowId(c))
+                        .number(userId)
+                        .text("Synthetic User " + userId)
+                        .text(email(userId))
+                        .text(rng.nextInt(3) == 0 ? null : "Company " + (userId % 50_000))
+                        .text(Catalog.lorem(rng, 60 + rng.nextInt(200)))
+                        .number(rating(rng))
+                        .timestamp(createdAt)
+                        .timestamp(createdAt)
+                        .endRow();
+            }
+            rows = copy.rows();
+        }
+        try (CopyWriter copy = new CopyWriter(connection, "client_projects_table", "client_id", "project_id", "created_at")) {
+            for (int p = 0; p < plan.projects(); p++) {
+                ProjectPlan project = plan.project(p);
+                copy.number(plan.clientRowId(project.clientIndex()))
+                        .number(project.id())
+                        .timestamp(project.createdAt())
+                        .endRow();
+            }
+            rows += copy.rows();
+        }
+        return rows;
+    }
+
+    private long loadFreelancers(Connection connection) throws Exception {
+        try (CopyWriter copy = new CopyWriter(connection, "freelancers_table",
+                "user_id", "name", "email", "skills", "rating", "completed_projects", "availability_status",
+                "profile_summary", "location", "languages", "hourly_rate", "created_at", "updated_at")) {
+            for (int f = 0; f < plan.freelancerCount(); f++) {
+                int userIndex = plan.freelancerUserIndex(f);
+                int userId = plan.userId(userIndex);
+                SplittableRandom rng = plan.profileRandom(userIndex);
+                LocalDateTime createdAt = plan.userCreatedAt(userIndex);
+                double availability = rng.nextDouble();
+                copy.number(userId)
+                        .text("Synthetic User " + userId)
+                        .text(email(userId))
+                        .text(skills(rng))
+                        .number(rating(rng))
+                        .number((long) (-Math.log(1.0 - rng.nextDouble()) * 12))
+                        .text(availability < 0.7 ? "AVAILABLE" : availability < 0.9 ? "BUSY" : "UNAVAILABLE")
+                        .text(Catalog.lorem(rng, 80 + rng.nextInt(400)))
+                        .text(Catalog.LOCATIONS.get(Catalog.skewed(rng, Catalog.LOCATIONS.size(), 1.5)))
+                        .text(Catalog.LANGUAGES.get(Catalog.skewed(rng, Catalog.LANGUAGES.size(), 2.0)))
+                        .text(Long.toString((long) Catalog.logNormal(rng, 30, 0.5, 1)))
+                        .timestamp(createdAt)
+                        .timestamp(createdAt)
+                        .endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long loadProjects(Connection connection) throws Exception {
+        try (CopyWriter copy = new CopyWriter(connection, "projects_table",
+                "id", "client_id", "title", "description", "budget", "budget_min", "budget_max", "category",
+                "category_id", "deadline", "duration", "status", "assigned_freelancer_id", "created_at", "updated_at")) {
+            for (int p = 0; p < plan.projects(); p++) {
+                ProjectPlan project = plan.project(p);
+                SplittableRandom rng = new SplittableRandom(project.bidSeed() ^ 0x5DEECE66DL);
+                Integer assigned = project.assignedFreelancerId();
+                copy.number(project.id())
+                        // projects_table.client_id holds the client's user id (set from the gateway's userId header)
+                        .number(plan.userId(plan.clientUserIndex(project.clientIndex())))
+                        .text(project.title())
+                        .text(Catalog.lorem(rng, 120 + Catalog.skewed(rng, 1500, 2.0)))
+                        .number(project.budget())
+                        .number(Math.round(project.budget() * 0.8))
+                        .number(Math.round(project.budget() * 1.25))
+                        .text(Catalog.CATEGORIES.get(project.categoryIndex()).name())
+                        .number(categoryIds[project.categoryIndex()])
+                        .date(project.deadline())
+                        .number(Duration.ofDays(project.durationDays()).toNanos())
+                        .number(project.status());
+                if (assigned == null) {
+                    copy.nul();
+                } else {
+                    copy.number(assigned);
+                }
+                copy.timestamp(project.createdAt())
+                        .timestamp(project.updatedAt())
+                        .endRow();
+            }
+            return copy.rows();
+        }
+    }
+
+    private long loadBids(Connection connection) throws Exception {
+        try (CopyWriter copy = new CopyWriter(connection, "bids_table",
+                "project_id", "freelancer_id", "proposal_text", "bid_amount", "status", "created_at", "updated_at")) {
+            for (int p = 0; p < plan.projects(); p++) {
+                ProjectPlan project = plan.project(p);
+                SplittableRandom rng = new SplittableRandom(project.bidSeed());
+                int[] bidders = project.bidderUserIds();
+                for (int i = 0; i < bidders.length; i++) {
+                    LocalDateTime createdAt = project.createdAt().plusSeconds(rng.nextLong(60, 7 * 86_400L));
+                    if (createdAt.isAfter(plan.now())) {
+                        createdAt = plan.now();
+                    }
+                    String status = project.bidStatus(i);
+                    LocalDateTime updatedAt = "PENDING".equals(status) || project.updatedAt().isBefore(createdAt)
+                            ? createdAt : project.updatedAt();
+                    copy.number(project.id())
+                            .number(bidders[i])
+                            // Proposal lengths skew short with a tail up to the 2000-char limit
+                            .text(Catalog.lorem(rng, 100 + Catalog.skewed(rng, 1900, 2.5)))
+                            .number((double) Math.round(project.budget() * (0.7 + 0.6 * rng.nextDouble())))
+                            .text(status)
+                            .timestamp(createdAt)
+                            .timestamp(updatedAt)
+                            .endRow();
+                }
+            }
+            return copy.rows();
+        }
+    }
+
+    /** Three to eight skills, mostly from one primary domain, comma-separated like the service stores them. */
+    private static String skills(SplittableRandom rng) {
+        List<String> primary = Catalog.CATEGORIES.get(Catalog.category(rng)).skills();
+        int count = 3 + rng.nextInt(6);
+        Set<String> skills = new LinkedHashSet<>();
+        for (int attempt = 0; skills.size() < count && attempt < count * 4; attempt++) {
+            List<String> domain = rng.nextInt(5) == 0
+                    ? Catalog.CATEGORIES.get(Catalog.category(rng)).skills()
+                    : primary;
+            skills.add(domain.get(Catalog.skewed(rng, domain.size(), 2.0)));
+        }
+        return String.join(",", skills);
+    }
+
+    /** Ratings cluster between 4 and 5, as on most review-driven marketplaces. */
+    private static double rating(SplittableRandom rng) {
+        return Math.round((5.0 - 2.0 * Math.pow(rng.nextDouble(), 2.5)) * 10) / 10.0;
+    }
+
+    private static String email(int userId) {
+        return "user" + userId + "@synthetic.example";
+    }
+
+    private static short[] internCategories(DataGenOptions options) throws SQLException {
+        short[] ids = new short[Catalog.CATEGORIES.size()];
+        try (Connection connection = connect(options, PROJECT_DB);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO categories_table (name, normalized_name) VALUES (?, ?) ON CONFLICT (normalized_name) DO NOTHING");
+             PreparedStatement select = connection.prepareStatement(
+                     "SELECT id FROM categories_table WHERE normalized_name = ?")) {
+            for (int i = 0; i < ids.length; i++) {
+                String name = Catalog.CATEGORIES.get(i).name();
+                String normalized = name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+                insert.setString(1, name);
+                insert.setString(2, normalized);
+                insert.executeUpdate();
+                select.setString(1, normalized);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    ids[i] = rs.getShort(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static int maxId(DataGenOptions options, String database, String table, String column) throws SQLException {
+        try (Connection connection = connect(options, database);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void truncate(DataGenOptions options) throws SQLException {
+        String[][] targets = {
+                {USER_DB, "users_table"},
+                {CLIENT_DB, "clients_table, client_projects_table"},
+                {FREELANCER_DB, "freelancers_table"},
+                {PROJECT_DB, "projects_table"},
+                {BID_DB, "bids_table"}};
+        for (String[] target : targets) {
+            try (Connection connection = connect(options, target[0]);
+                 Statement statement = connection.createStatement()) {
+                statement.execute("TRUNCATE TABLE " + target[1] + " RESTART IDENTITY");
+            }
+            System.out.println("Truncated " + target[0] + ": " + target[1]);
+        }
+    }
+
+    private static Connection connect(DataGenOptions options, String database) throws SQLException {
+        return DriverManager.getConnection(options.jdbcUrl() + "/" + database, options.username(), options.password());
+    }
+}
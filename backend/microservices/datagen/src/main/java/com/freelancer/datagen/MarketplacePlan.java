@@ -0,0 +1,194 @@
+package com.freelancer.datagen;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * The shape of the generated marketplace: which users are clients or freelancers, and a
+ * deterministic recipe for every project and its bids.
+ * <p>
+ * Ids continue after the highest id already present in each table, so the generator can append to
+ * a database that already holds data. Only the role split is materialised (a few bytes per user);
+ * everything else is recomputed from {@code (seed, entity, index)} on demand, which keeps memory
+ * flat and lets every table load in parallel.
+ */
+final class MarketplacePlan {
+
+    private static final long USERS = 1;
+    private static final long PROJECTS = 2;
+    private static final long PROFILES = 3;
+
+    /** Pareto shape for bids per project: a long tail of popular projects. */
+    private static final double BID_TAIL_ALPHA = 1.6;
+    private static final int MAX_BIDS_PER_PROJECT = 500;
+    private static final long USER_HISTORY_SECONDS = Duration.ofDays(3 * 365).toSeconds();
+    private static final long PROJECT_HISTORY_SECONDS = Duration.ofDays(2 * 365).toSeconds();
+
+    private final DataGenOptions options;
+    private final LocalDateTime now;
+    private final int userIdBase;
+    private final int clientIdBase;
+    private final int projectIdBase;
+    private final BitSet clientUsers;
+    private final int[] clientUserIndexes;
+    private final int[] freelancerUserIndexes;
+
+    private MarketplacePlan(DataGenOptions options, LocalDateTime now, int userIdBase, int clientIdBase,
+                            int projectIdBase, BitSet clientUsers, int[] clientUserIndexes, int[] freelancerUserIndexes) {
+        this.options = options;
+        this.now = now;
+        this.userIdBase = userIdBase;
+        this.clientIdBase = clientIdBase;
+        this.projectIdBase = projectIdBase;
+        this.clientUsers = clientUsers;
+        this.clientUserIndexes = clientUserIndexes;
+        this.freelancerUserIndexes = freelancerUserIndexes;
+    }
+
+    static MarketplacePlan create(DataGenOptions options, LocalDateTime now,
+                                  int userIdBase, int clientIdBase, int projectIdBase) {
+        SplittableRandom rng = new SplittableRandom(options.seed());
+        BitSet clientUsers = new BitSet(options.users());
+        for (int i = 0; i < options.users(); i++) {
+            if (rng.nextDouble() < options.clientShare()) {
+                clientUsers.set(i);
+            }
+        }
+        // Guarantee both roles exist even for tiny runs
+        clientUsers.set(0);
+        clientUsers.clear(options.users() - 1);
+
+        int[] clients = new int[clientUsers.cardinality()];
+        int[] freelancers = new int[options.users() - clients.length];
+        int c = 0;
+        int f = 0;
+        for (int i = 0; i < options.users(); i++) {
+            if (clientUsers.get(i)) {
+                clients[c++] = i;
+            } else {
+                freelancers[f++] = i;
+            }
+        }
+        return new MarketplacePlan(options, now, userIdBase, clientIdBase, projectIdBase, clientUsers, clients, freelancers);
+    }
+
+    LocalDateTime now() {
+        return now;
+    }
+
+    int users() {
+        return options.users();
+    }
+
+    int projects() {
+        return options.projects();
+    }
+
+    int clientCount() {
+        return clientUserIndexes.length;
+    }
+
+    int freelancerCount() {
+        return freelancerUserIndexes.length;
+    }
+
+    int userId(int userIndex) {
+        return userIdBase + userIndex + 1;
+    }
+
+    boolean isClient(int userIndex) {
+        return clientUsers.get(userIndex);
+    }
+
+    int clientUserIndex(int clientIndex) {
+        return clientUserIndexes[clientIndex];
+    }
+
+    int clientRowId(int clientIndex) {
+        return clientIdBase + clientIndex + 1;
+    }
+
+    int freelancerUserIndex(int freelancerIndex) {
+        return freelancerUserIndexes[freelancerIndex];
+    }
+
+    /** Random stream for a client's or freelancer's profile attributes. */
+    SplittableRandom profileRandom(int userIndex) {
+        return random(PROFILES, userIndex);
+    }
+
+    /** Sign-up time, skewed towards recent months to mimic a growing platform. */
+    LocalDateTime userCreatedAt(int userIndex) {
+        double u = random(USERS, userIndex).nextDouble();
+        return now.minusSeconds((long) (USER_HISTORY_SECONDS * Math.pow(u, 1.5)));
+    }
+
+    ProjectPlan project(int projectIndex) {
+        SplittableRandom rng = random(PROJECTS, projectIndex);
+        // A small share of clients posts most of the projects
+        int clientIndex = Catalog.skewed(rng, clientCount(), 3.0);
+        int categoryIndex = Catalog.category(rng);
+        Catalog.Category category = Catalog.CATEGORIES.get(categoryIndex);
+        String title = category.skills().get(Catalog.skewed(rng, category.skills().size(), 2.0)) + " "
+                + Catalog.TASKS.get(rng.nextInt(Catalog.TASKS.size()));
+        double budget = Catalog.logNormal(rng, category.medianBudget(), 0.7, 50);
+
+        LocalDateTime createdAt = now.minusSeconds((long) (PROJECT_HISTORY_SECONDS * Math.pow(rng.nextDouble(), 1.5)));
+        int durationDays = 7 + rng.nextInt(84);
+        LocalDate deadline = createdAt.toLocalDate().plusDays(durationDays);
+        double r = rng.nextDouble();
+        short status;
+        if (!deadline.isBefore(now.toLocalDate())) {
+            status = r < 0.65 ? ProjectPlan.OPEN : r < 0.95 ? ProjectPlan.IN_PROGRESS : ProjectPlan.CANCELLED;
+        } else {
+            status = r < 0.75 ? ProjectPlan.COMPLETED
+                    : r < 0.85 ? ProjectPlan.CANCELLED
+                    : r < 0.90 ? ProjectPlan.IN_PROGRESS
+                    : ProjectPlan.EXPIRED;
+        }
+        long sinceCreated = Math.max(2, Duration.between(createdAt, now).toSeconds());
+        LocalDateTime updatedAt = status == ProjectPlan.OPEN ? createdAt : createdAt.plusSeconds(rng.nextLong(1, sinceCreated));
+
+        int maxBids = Math.min(MAX_BIDS_PER_PROJECT, Math.max(1, freelancerCount() / 4));
+        int bidCount = Math.min(maxBids, Catalog.heavyTailed(rng, options.avgBidsPerProject(), BID_TAIL_ALPHA));
+        if (bidCount == 0 && (status == ProjectPlan.IN_PROGRESS || status == ProjectPlan.COMPLETED)) {
+            bidCount = 1;
+        }
+        int[] bidders = new int[bidCount];
+        for (int filled = 0; filled < bidCount; ) {
+            // Active freelancers bid far more often than the long tail
+            int candidate = userId(freelancerUserIndex(Catalog.skewed(rng, freelancerCount(), 2.0)));
+            if (!contains(bidders, filled, candidate)) {
+                bidders[filled++] = candidate;
+            }
+        }
+        return new ProjectPlan(projectIdBase + projectIndex + 1, clientIndex, categoryIndex, title, budget, deadline,
+                durationDays, status, createdAt, updatedAt, bidders, rng.nextLong());
+    }
+
+    /**
+     * Independent stream per entity. Seeds are scrambled because SplittableRandom streams whose seeds
+     * differ by a multiple of its gamma would overlap.
+     */
+    private SplittableRandom random(long entity, long index) {
+        return new SplittableRandom(mix64(options.seed() + mix64((entity << 40) + index)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.freelancer.datagen;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Everything the loaders need to know about one synthetic project, derived deterministically from
+ * its index so the project, client-association and bid loaders can run independently and still agree.
+ *
+ * @param bidderUserIds distinct freelancer user ids that bid on the project; when the project is
+ *                      assigned, the first one is the accepted bidder
+ * @param bidSeed       seed for the per-bid details (amount, proposal, timestamps)
+ */
+record ProjectPlan(int id,
+                   int clientIndex,
+                   int categoryIndex,
+                   String title,
+                   double budget,
+                   LocalDate deadline,
+                   int durationDays,
+                   short status,
+                   LocalDateTime createdAt,
+                   LocalDateTime updatedAt,
+                   int[] bidderUserIds,
+                   long bidSeed) {
+
+    static final short OPEN = 0;
+    static final short IN_PROGRESS = 1;
+    static final short COMPLETED = 2;
+    static final short CANCELLED = 3;
+    static final short EXPIRED = 4;
+
+    boolean assigned() {
+        return status == IN_PROGRESS || status == COMPLETED;
+    }
+
+    Integer assignedFreelancerId() {
+        return assigned() ? bidderUserIds[0] : null;
+    }
+
+    /** Bid status for the {@code i}-th bidder, consistent with how bid-service resolves bids. */
+    String bidStatus(int i) {
+        if (status == OPEN) {
+            return "PENDING";
+        }
+        return assigned() && i == 0 ? "ACCEPTED" : "REJECTED";
+    }
+}
@@ -1,12 +1,28 @@
 package com.freelancer.freelancer_service;
 
+import com.freelancer.commons.feign.FeignHttpClientConfiguration;
+import com.freelancer.commons.feign.FeignResilienceConfiguration;
+import com.freelancer.commons.limit.FeignConcurrencyLimitConfiguration;
+import com.freelancer.commons.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import com.freelancer.commons.observation.RepositoryObservationConfiguration;
+import com.freelancer.commons.smile.FeignSmileConfiguration;
+import com.freelancer.commons.smile.SmileContentNegotiationConfiguration;
+import com.freelancer.commons.startup.LazyInitializationConfiguration;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+@Import({RepositoryObservationConfiguration.class, LazyInitializationConfiguration.class,
+		FeignConcurrencyLimitConfiguration.class, FeignResilienceConfiguration.class,
+		FeignHttpClientConfiguration.class, FeignSmileConfiguration.class, SmileContentNegotiationConfiguration.class})
 @EnableFeignClients
+@EnableScheduling
 public class FreelancerServiceApplication {
 
 	public static void main(String[] args) {
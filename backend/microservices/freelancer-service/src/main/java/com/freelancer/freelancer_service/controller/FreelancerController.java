@@ -2,6 +2,8 @@ package com.freelancer.freelancer_service.controller;
 
 import com.freelancer.freelancer_service.dto.FreelancerDto;
 import com.freelancer.freelancer_service.dto.ProjectDto;
+import com.freelancer.freelancer_service.dto.RecommendedFreelancerDto;
+import com.freelancer.freelancer_service.dto.RecommendedProjectDto;
 import com.freelancer.freelancer_service.service.FreelancerService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -59,4 +61,24 @@ public class FreelancerController {
     public ResponseEntity<List<ProjectDto>> getOpenProjects() {
         return ResponseEntity.ok(freelancerService.getOpenProjects());
     }
+
+    @GetMapping("/{userId}/recommended-projects")
+    public ResponseEntity<List<RecommendedProjectDto>> getRecommendedProjects(@PathVariable Integer userId,
+                                                                              @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(freelancerService.getRecommendedProjects(userId, clampLimit(limit)));
+    }
+
+    @GetMapping("/project/{projectId}/recommended-freelancers")
+    public ResponseEntity<List<RecommendedFreelancerDto>> getRecommendedFreelancers(@PathVariable Integer projectId,
+                                                                                    @RequestParam(defaultValue = "10") int limit) {
+        List<RecommendedFreelancerDto> freelancers = freelancerService.getRecommendedFreelancers(projectId, clampLimit(limit));
+        if (freelancers != null) {
+            return ResponseEntity.ok(freelancers);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(0, Math.min(limit, 100));
+    }
 }
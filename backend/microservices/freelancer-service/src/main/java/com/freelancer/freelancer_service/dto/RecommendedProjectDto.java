@@ -0,0 +1,13 @@
+package com.freelancer.freelancer_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecommendedProjectDto {
+    private ProjectDto project;
+    private Double score;
+}
@@ -7,7 +7,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 
 import java.util.List;
 
-@FeignClient(name = "PROJECT-SERVICE")
+@FeignClient(name = "PROJECT-SERVICE", fallbackFactory = ProjectInterfaceFallbackFactory.class)
 public interface ProjectInterface {
     @GetMapping("/projects/getProject/{id}")
     ProjectDto getProjectById(@PathVariable Integer id);
@@ -0,0 +1,47 @@
+package com.freelancer.freelancer_service.feign;
+
+import com.freelancer.freelancer_service.dto.ProjectDto;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Used when the PROJECT-SERVICE call fails, times out, is rejected by the bulkhead or the circuit is open.
+ * Client errors from project-service are passed through; everything else fails fast with 503.
+ * The open-project list deliberately does not degrade to an empty list, which the matching engine would
+ * read as every project having closed.
+ */
+@Component
+public class ProjectInterfaceFallbackFactory implements FallbackFactory<ProjectInterface> {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectInterfaceFallbackFactory.class);
+
+    @Override
+    public ProjectInterface create(Throwable cause) {
+        return new ProjectInterface() {
+            @Override
+            public ProjectDto getProjectById(Integer id) {
+                throw unavailable("load project " + id, cause);
+            }
+
+            @Override
+            public List<ProjectDto> getOpenProjects() {
+                throw unavailable("load open projects", cause);
+            }
+        };
+    }
+
+    private static RuntimeException unavailable(String action, Throwable cause) {
+        if (cause instanceof FeignException.FeignClientException clientError) {
+            return clientError;
+        }
+        log.warn("PROJECT-SERVICE unavailable, could not {}: {}", action, cause.toString());
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Project service unavailable", cause);
+    }
+}
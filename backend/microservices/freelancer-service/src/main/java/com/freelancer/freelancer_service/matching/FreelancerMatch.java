@@ -0,0 +1,7 @@
+package com.freelancer.freelancer_service.matching;
+
+/**
+ * A freelancer scored against one project.
+ */
+public record FreelancerMatch(FreelancerProfile profile, double score) {
+}
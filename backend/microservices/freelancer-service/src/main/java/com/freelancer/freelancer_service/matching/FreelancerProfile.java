@@ -0,0 +1,16 @@
+package com.freelancer.freelancer_service.matching;
+
+/**
+ * Precomputed, immutable matching view of a freelancer.
+ *
+ * @param hourlyRate parsed hourly rate, or NaN when the profile does not state one
+ * @param location   normalized location, or null
+ */
+public record FreelancerProfile(Integer freelancerId,
+                                Integer userId,
+                                SkillVector skills,
+                                double hourlyRate,
+                                double rating,
+                                boolean available,
+                                String location) {
+}
@@ -0,0 +1,331 @@
+package com.freelancer.freelancer_service.matching;
+
+import com.freelancer.freelancer_service.dao.FreelancerRepository;
+import com.freelancer.freelancer_service.dto.ProjectDto;
+import com.freelancer.freelancer_service.dto.RecommendedProjectDto;
+import com.freelancer.freelancer_service.feign.ProjectInterface;
+import com.freelancer.freelancer_service.model.Freelancer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scores open projects against freelancer profiles using precomputed sparse skill vectors, in both directions:
+ * projects for a freelancer and freelancers for a project. Only pairs sharing at least one skill are scored,
+ * and the best k are kept in a bounded heap.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchingEngine.class);
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+    private static final double DEFAULT_PROJECT_HOURS = 160;
+
+    private static final double SKILL_WEIGHT = 0.55;
+    private static final double BUDGET_WEIGHT = 0.20;
+    private static final double AVAILABILITY_WEIGHT = 0.10;
+    private static final double RATING_WEIGHT = 0.10;
+    private static final double LOCATION_WEIGHT = 0.05;
+
+    private final SkillVocabulary vocabulary;
+    private final FreelancerRepository freelancerRepository;
+    private final ProjectInterface projectInterface;
+    private final RecommendationStore recommendationStore;
+
+    private final Map<Integer, FreelancerProfile> profilesByUserId = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> userIdsBySkill = new ConcurrentHashMap<>();
+    private volatile ProjectIndex projectIndex = ProjectIndex.EMPTY;
+
+    @Value("${matching.project-index-ttl-ms:30000}")
+    private long projectIndexTtlMs;
+
+    @Value("${matching.project-index-retry-ms:5000}")
+    private long projectIndexRetryMs;
+
+    private volatile long lastRefreshFailureMillis;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadProfiles() {
+        freelancerRepository.findAll().forEach(this::indexFreelancer);
+        log.info("Matching engine indexed {} freelancer profiles over {} skills", profilesByUserId.size(), vocabulary.size());
+    }
+
+    public FreelancerProfile indexFreelancer(Freelancer freelancer) {
+        List<Integer> skillIds = new ArrayList<>();
+        for (String skill : SkillVocabulary.splitSkills(freelancer.getSkills())) {
+            skillIds.add(vocabulary.intern(skill));
+        }
+        FreelancerProfile profile = new FreelancerProfile(
+                freelancer.getFreelancerId(),
+                freelancer.getUserId(),
+                SkillVector.of(skillIds),
+                parseRate(freelancer.getHourlyRate()),
+                freelancer.getRating() == null ? 0 : freelancer.getRating(),
+                freelancer.getAvailabilityStatus() == null || "AVAILABLE".equalsIgnoreCase(freelancer.getAvailabilityStatus()),
+                freelancer.getLocation() == null || freelancer.getLocation().isBlank()
+                        ? null : freelancer.getLocation().trim().toLowerCase(Locale.ROOT));
+        if (freelancer.getUserId() != null) {
+            FreelancerProfile previous = profilesByUserId.put(freelancer.getUserId(), profile);
+            if (previous != null) {
+                for (int skillId : previous.skills().ids()) {
+                    Set<Integer> users = userIdsBySkill.get(skillId);
+                    if (users != null) {
+                        users.remove(freelancer.getUserId());
+                    }
+                }
+            }
+            for (int skillId : profile.skills().ids()) {
+                userIdsBySkill.computeIfAbsent(skillId, k -> ConcurrentHashMap.newKeySet()).add(freelancer.getUserId());
+            }
+            recommendationStore.markDirty(freelancer.getUserId());
+        }
+        return profile;
+    }
+
+    /**
+     * Freelancers listing the given skill; used to find whose recommendations a new project can affect.
+     */
+    public Set<Integer> userIdsWithSkill(int skillId) {
+        return userIdsBySkill.getOrDefault(skillId, Set.of());
+    }
+
+    public Collection<FreelancerProfile> profiles() {
+        return profilesByUserId.values();
+    }
+
+    public FreelancerProfile getProfile(Integer userId) {
+        FreelancerProfile profile = profilesByUserId.get(userId);
+        if (profile == null) {
+            profile = freelancerRepository.findByUserId(userId).map(this::indexFreelancer).orElse(null);
+        }
+        return profile;
+    }
+
+    public List<RecommendedProjectDto> recommendProjects(Integer userId, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        FreelancerProfile profile = getProfile(userId);
+        if (profile == null) {
+            return List.of();
+        }
+        ProjectIndex index = currentProjectIndex();
+        RecommendationStore.Entry stored = recommendationStore.get(userId);
+        if (stored != null && k <= stored.limit()) {
+            List<RecommendedProjectDto> result = new ArrayList<>(Math.min(k, stored.projectIds().length));
+            for (int i = 0; i < stored.projectIds().length && result.size() < k; i++) {
+                ProjectCandidate candidate = index.candidate(stored.projectIds()[i]);
+                // Projects closed since the last run are skipped until the scheduler catches up
+                if (candidate != null) {
+                    result.add(new RecommendedProjectDto(candidate.project(), (double) stored.scores()[i]));
+                }
+            }
+            return result;
+        }
+        return topProjects(profile, index, k);
+    }
+
+    public List<RecommendedProjectDto> topProjects(FreelancerProfile profile, ProjectIndex index, int k) {
+        if (k <= 0 || index.size() == 0) {
+            return List.of();
+        }
+        PriorityQueue<RecommendedProjectDto> heap =
+                new PriorityQueue<>(k + 1, Comparator.comparingDouble(RecommendedProjectDto::getScore));
+        List<ProjectCandidate> candidates = index.candidates();
+        if (profile.skills().isEmpty()) {
+            // Nothing to match on: rank every open project by the non-skill factors only
+            for (ProjectCandidate candidate : candidates) {
+                offer(heap, k, candidate, score(profile, candidate));
+            }
+        } else {
+            BitSet seen = new BitSet(candidates.size());
+            for (int skillId : profile.skills().ids()) {
+                for (int position : index.postings(skillId)) {
+                    if (!seen.get(position)) {
+                        seen.set(position);
+                        ProjectCandidate candidate = candidates.get(position);
+                        offer(heap, k, candidate, score(profile, candidate));
+                    }
+                }
+            }
+        }
+        List<RecommendedProjectDto> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(RecommendedProjectDto::getScore).reversed());
+        return result;
+    }
+
+    /**
+     * Best k freelancers for a project, the reverse of {@link #topProjects} with the same pair score.
+     * Only freelancers listing one of the project's skills are scored; a project without recognizable skills
+     * ranks every freelancer on the non-skill factors.
+     */
+    public List<FreelancerMatch> topFreelancers(ProjectCandidate candidate, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+        PriorityQueue<FreelancerMatch> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(FreelancerMatch::score));
+        if (candidate.skills().isEmpty()) {
+            for (FreelancerProfile profile : profilesByUserId.values()) {
+                offer(heap, k, new FreelancerMatch(profile, score(profile, candidate)));
+            }
+        } else {
+            Set<Integer> seen = new HashSet<>();
+            for (int skillId : candidate.skills().ids()) {
+                for (Integer userId : userIdsWithSkill(skillId)) {
+                    FreelancerProfile profile = profilesByUserId.get(userId);
+                    if (profile != null && seen.add(userId)) {
+                        offer(heap, k, new FreelancerMatch(profile, score(profile, candidate)));
+                    }
+                }
+            }
+        }
+        List<FreelancerMatch> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(FreelancerMatch::score).reversed());
+        return result;
+    }
+
+    /**
+     * Pair score in [0, 1]. Rating and availability are included so scores are comparable across freelancers.
+     */
+    public double score(FreelancerProfile profile, ProjectCandidate candidate) {
+        double skill = profile.skills().dot(candidate.skills());
+        double budget = budgetFit(profile.hourlyRate(), candidate.project());
+        double availability = profile.available() ? 1 : 0;
+        double rating = Math.min(Math.max(profile.rating(), 0), 5) / 5;
+        double location = profile.location() != null && candidate.text().contains(profile.location()) ? 1 : 0;
+        return SKILL_WEIGHT * skill
+                + BUDGET_WEIGHT * budget
+                + AVAILABILITY_WEIGHT * availability
+                + RATING_WEIGHT * rating
+                + LOCATION_WEIGHT * location;
+    }
+
+    public ProjectCandidate toCandidate(ProjectDto project) {
+        String text = String.join(" ",
+                project.getTitle() == null ? "" : project.getTitle(),
+                project.getDescription() == null ? "" : project.getDescription(),
+                project.getCategory() == null ? "" : project.getCategory()).toLowerCase(Locale.ROOT);
+        List<Integer> skillIds = new ArrayList<>();
+        String[] words = SkillVocabulary.words(text);
+        for (int start = 0; start < words.length; start++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int n = 0; n < SkillVocabulary.MAX_PHRASE_WORDS && start + n < words.length; n++) {
+                if (words[start + n].isEmpty()) {
+                    break;
+                }
+                if (n > 0) {
+                    phrase.append(' ');
+                }
+                phrase.append(words[start + n]);
+                int id = vocabulary.lookup(phrase.toString());
+                if (id >= 0) {
+                    skillIds.add(id);
+                }
+            }
+        }
+        return new ProjectCandidate(project, SkillVector.of(skillIds), text);
+    }
+
+    public ProjectIndex currentProjectIndex() {
+        ProjectIndex index = projectIndex;
+        if (System.currentTimeMillis() - index.builtAtMillis() < projectIndexTtlMs && index != ProjectIndex.EMPTY) {
+            return index;
+        }
+        // Right after a failed refresh, serve the stale index rather than sending every request to project-service
+        if (refreshBackingOff()) {
+            return index;
+        }
+        synchronized (this) {
+            if (projectIndex != index || refreshBackingOff()) {
+                return projectIndex;
+            }
+            try {
+                return refreshProjectIndex();
+            } catch (RuntimeException e) {
+                log.warn("Could not refresh open projects for matching, keeping previous index for {} ms: {}",
+                        projectIndexRetryMs, e.getMessage());
+                return projectIndex;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the open-project snapshot from project-service and returns it. A failure starts the retry delay
+     * during which {@link #currentProjectIndex} keeps serving the previous snapshot.
+     */
+    public synchronized ProjectIndex refreshProjectIndex() {
+        List<ProjectCandidate> candidates = new ArrayList<>();
+        try {
+            for (ProjectDto project : projectInterface.getOpenProjects()) {
+                candidates.add(toCandidate(project));
+            }
+        } catch (RuntimeException e) {
+            lastRefreshFailureMillis = System.currentTimeMillis();
+            throw e;
+        }
+        projectIndex = new ProjectIndex(candidates, System.currentTimeMillis());
+        return projectIndex;
+    }
+
+    private boolean refreshBackingOff() {
+        return System.currentTimeMillis() - lastRefreshFailureMillis < projectIndexRetryMs;
+    }
+
+    static double budgetFit(double hourlyRate, ProjectDto project) {
+        Double budget = project.getBudgetMax() != null ? project.getBudgetMax() : project.getBudget();
+        if (Double.isNaN(hourlyRate) || hourlyRate <= 0 || budget == null || budget <= 0) {
+            return 0.5;
+        }
+        double hours = project.getDuration() != null && !project.getDuration().isZero()
+                ? Math.max(1, project.getDuration().toHours())
+                : DEFAULT_PROJECT_HOURS;
+        double affordableRate = budget / hours;
+        return hourlyRate <= affordableRate ? 1 : affordableRate / hourlyRate;
+    }
+
+    static double parseRate(String hourlyRate) {
+        if (hourlyRate == null) {
+            return Double.NaN;
+        }
+        Matcher matcher = NUMBER.matcher(hourlyRate);
+        return matcher.find() ? Double.parseDouble(matcher.group()) : Double.NaN;
+    }
+
+    private static void offer(PriorityQueue<RecommendedProjectDto> heap, int k, ProjectCandidate candidate, double score) {
+        if (heap.size() < k) {
+            heap.add(new RecommendedProjectDto(candidate.project(), score));
+        } else if (score > heap.peek().getScore()) {
+            heap.poll();
+            heap.add(new RecommendedProjectDto(candidate.project(), score));
+        }
+    }
+
+    private static void offer(PriorityQueue<FreelancerMatch> heap, int k, FreelancerMatch match) {
+        if (heap.size() < k) {
+            heap.add(match);
+        } else if (match.score() > heap.peek().score()) {
+            heap.poll();
+            heap.add(match);
+        }
+    }
+}
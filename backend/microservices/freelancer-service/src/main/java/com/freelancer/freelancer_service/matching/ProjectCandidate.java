@@ -0,0 +1,11 @@
+package com.freelancer.freelancer_service.matching;
+
+import com.freelancer.freelancer_service.dto.ProjectDto;
+
+/**
+ * Open project with its skill vector extracted from title, description and category.
+ *
+ * @param text lowercase title, description and category, used for location matching
+ */
+public record ProjectCandidate(ProjectDto project, SkillVector skills, String text) {
+}
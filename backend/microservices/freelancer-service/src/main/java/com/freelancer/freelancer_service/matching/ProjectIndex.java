@@ -0,0 +1,62 @@
+package com.freelancer.freelancer_service.matching;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the open projects with an inverted index from skill id to candidate positions,
+ * so a freelancer is only scored against projects that share at least one skill.
+ */
+public final class ProjectIndex {
+
+    public static final ProjectIndex EMPTY = new ProjectIndex(List.of(), System.currentTimeMillis());
+
+    private final List<ProjectCandidate> candidates;
+    private final Map<Integer, int[]> postings;
+    private final Map<Integer, ProjectCandidate> byProjectId;
+    private final long builtAtMillis;
+
+    public ProjectIndex(List<ProjectCandidate> candidates, long builtAtMillis) {
+        this.candidates = List.copyOf(candidates);
+        this.builtAtMillis = builtAtMillis;
+        Map<Integer, List<Integer>> lists = new HashMap<>();
+        Map<Integer, ProjectCandidate> byProjectId = new HashMap<>(this.candidates.size() * 2);
+        for (int i = 0; i < this.candidates.size(); i++) {
+            byProjectId.put(this.candidates.get(i).project().getId(), this.candidates.get(i));
+            for (int skillId : this.candidates.get(i).skills().ids()) {
+                lists.computeIfAbsent(skillId, k -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<Integer, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((skillId, positions) -> postings.put(skillId, positions.stream().mapToInt(Integer::intValue).toArray()));
+        this.postings = postings;
+        this.byProjectId = byProjectId;
+    }
+
+    public List<ProjectCandidate> candidates() {
+        return candidates;
+    }
+
+    public int[] postings(int skillId) {
+        return postings.getOrDefault(skillId, new int[0]);
+    }
+
+    public ProjectCandidate candidate(int projectId) {
+        return byProjectId.get(projectId);
+    }
+
+    public Set<Integer> projectIds() {
+        return byProjectId.keySet();
+    }
+
+    public long builtAtMillis() {
+        return builtAtMillis;
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+}
@@ -0,0 +1,185 @@
+package com.freelancer.freelancer_service.matching;
+
+import com.freelancer.freelancer_service.dto.RecommendedProjectDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Incrementally recomputes precomputed recommendations. Each run only touches freelancers whose profile changed
+ * or whose candidate set changed: new projects sharing one of their skills, or closed projects in their stored list.
+ */
+@Component
+public class RecommendationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationScheduler.class);
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final MatchingEngine matchingEngine;
+    private final RecommendationStore store;
+    private final ForkJoinPool pool;
+    private final Counter recomputed;
+    private final Timer runTimer;
+
+    @Value("${matching.precompute.top-n:50}")
+    private int topN;
+
+    private volatile long lastRunMillis;
+    // Snapshot used by the previous run; diffing against it finds new and closed projects
+    private ProjectIndex lastIndex = ProjectIndex.EMPTY;
+
+    public RecommendationScheduler(MatchingEngine matchingEngine,
+                                   RecommendationStore store,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${matching.precompute.parallelism:0}") int parallelism) {
+        this.matchingEngine = matchingEngine;
+        this.store = store;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.recomputed = Counter.builder("recommendations.recomputed")
+                .description("Freelancers whose recommendations were recomputed")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("recommendations.run")
+                .description("Duration of incremental recommendation runs")
+                .register(meterRegistry);
+        Gauge.builder("recommendations.pending", store, RecommendationStore::pendingCount)
+                .description("Freelancers waiting for recomputation")
+                .register(meterRegistry);
+        Gauge.builder("recommendations.staleness.seconds", store, s -> s.oldestPendingAgeMillis() / 1000.0)
+                .description("Age of the oldest change not yet reflected in stored recommendations")
+                .register(meterRegistry);
+        Gauge.builder("recommendations.last.run.age.seconds", this,
+                        s -> s.lastRunMillis == 0 ? 0 : (System.currentTimeMillis() - s.lastRunMillis) / 1000.0)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${matching.precompute.interval-ms:10000}",
+            initialDelayString = "${matching.precompute.initial-delay-ms:5000}")
+    public void run() {
+        runTimer.record(this::recomputeChanged);
+    }
+
+    void recomputeChanged() {
+        ProjectIndex previous = lastIndex;
+        ProjectIndex current;
+        try {
+            current = matchingEngine.refreshProjectIndex();
+        } catch (RuntimeException e) {
+            log.warn("Skipping recommendation run, open projects unavailable: {}", e.getMessage());
+            return;
+        }
+        Map<Integer, Long> dirty = store.drainDirty();
+        try {
+            recomputeAffected(previous, current, dirty.keySet());
+        } catch (RuntimeException e) {
+            // Keep the changes for the next run; lastIndex stays put so new and closed projects are diffed again
+            store.restoreDirty(dirty);
+            throw e;
+        }
+        lastIndex = current;
+    }
+
+    private void recomputeAffected(ProjectIndex previous, ProjectIndex current, Set<Integer> dirty) {
+        Set<Integer> affected = new HashSet<>(dirty);
+        Set<Integer> closed = new HashSet<>(previous.projectIds());
+        closed.removeAll(current.projectIds());
+        boolean anyNew = false;
+        for (Integer projectId : current.projectIds()) {
+            if (previous.candidate(projectId) == null) {
+                anyNew = true;
+                for (int skillId : current.candidate(projectId).skills().ids()) {
+                    affected.addAll(matchingEngine.userIdsWithSkill(skillId));
+                }
+            }
+        }
+        if (!closed.isEmpty()) {
+            for (Map.Entry<Integer, RecommendationStore.Entry> entry : store.entries()) {
+                for (int projectId : entry.getValue().projectIds()) {
+                    if (closed.contains(projectId)) {
+                        affected.add(entry.getKey());
+                        break;
+                    }
+                }
+            }
+        }
+        if (anyNew || !closed.isEmpty()) {
+            // Freelancers without skills are ranked on every open project, so any candidate change affects them
+            for (FreelancerProfile profile : matchingEngine.profiles()) {
+                if (profile.skills().isEmpty()) {
+                    affected.add(profile.userId());
+                }
+            }
+        }
+        if (affected.isEmpty()) {
+            lastRunMillis = System.currentTimeMillis();
+            return;
+        }
+
+        int[] userIds = affected.stream().mapToInt(Integer::intValue).toArray();
+        long start = System.nanoTime();
+        pool.invoke(new RecomputeTask(userIds, 0, userIds.length, current));
+        recomputed.increment(userIds.length);
+        lastRunMillis = System.currentTimeMillis();
+        log.info("Recomputed recommendations for {} freelancers in {} ms ({} open projects, {} closed)",
+                userIds.length, (System.nanoTime() - start) / 1_000_000, current.size(), closed.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void recompute(Integer userId, ProjectIndex index) {
+        FreelancerProfile profile = matchingEngine.getProfile(userId);
+        if (profile == null) {
+            return;
+        }
+        List<RecommendedProjectDto> top = matchingEngine.topProjects(profile, index, topN);
+        int[] projectIds = new int[top.size()];
+        float[] scores = new float[top.size()];
+        for (int i = 0; i < top.size(); i++) {
+            projectIds[i] = top.get(i).getProject().getId();
+            scores[i] = top.get(i).getScore().floatValue();
+        }
+        store.put(userId, new RecommendationStore.Entry(projectIds, scores, topN, System.currentTimeMillis()));
+    }
+
+    private final class RecomputeTask extends RecursiveAction {
+        private final int[] userIds;
+        private final int from;
+        private final int to;
+        private final ProjectIndex index;
+
+        private RecomputeTask(int[] userIds, int from, int to, ProjectIndex index) {
+            this.userIds = userIds;
+            this.from = from;
+            this.to = to;
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    recompute(userIds[i], index);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RecomputeTask(userIds, from, mid, index), new RecomputeTask(userIds, mid, to, index));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.freelancer.freelancer_service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed top-N project recommendations per freelancer (keyed by userId), stored as primitive arrays
+ * to keep 100k+ entries compact, plus the set of freelancers whose entry is out of date.
+ */
+@Component
+public class RecommendationStore {
+
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> dirtySince = new ConcurrentHashMap<>();
+
+    public Entry get(Integer userId) {
+        return entries.get(userId);
+    }
+
+    public void put(Integer userId, Entry entry) {
+        entries.put(userId, entry);
+    }
+
+    public Set<Map.Entry<Integer, Entry>> entries() {
+        return entries.entrySet();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Marks a freelancer for recomputation; the first mark wins so staleness is measured from the oldest change.
+     */
+    public void markDirty(Integer userId) {
+        dirtySince.putIfAbsent(userId, System.currentTimeMillis());
+    }
+
+    /**
+     * Removes and returns the current dirty set.
+     */
+    public Map<Integer, Long> drainDirty() {
+        Map<Integer, Long> drained = new ConcurrentHashMap<>();
+        for (Integer userId : dirtySince.keySet()) {
+            Long markedAt = dirtySince.remove(userId);
+            if (markedAt != null) {
+                drained.put(userId, markedAt);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Puts back a drained dirty set after a failed run, keeping the older mark where a freelancer changed again.
+     */
+    public void restoreDirty(Map<Integer, Long> drained) {
+        drained.forEach((userId, markedAt) -> dirtySince.merge(userId, markedAt, Math::min));
+    }
+
+    public int pendingCount() {
+        return dirtySince.size();
+    }
+
+    /**
+     * Age in milliseconds of the oldest change not yet reflected in the stored recommendations.
+     */
+    public long oldestPendingAgeMillis() {
+        long now = System.currentTimeMillis();
+        long oldest = now;
+        for (Long markedAt : dirtySince.values()) {
+            oldest = Math.min(oldest, markedAt);
+        }
+        return now - oldest;
+    }
+
+    /**
+     * @param projectIds project ids ordered by descending score
+     * @param scores     scores aligned with projectIds
+     * @param limit      top-N requested when computing; shorter arrays mean fewer projects matched
+     */
+    public record Entry(int[] projectIds, float[] scores, int limit, long computedAtMillis) {
+    }
+}
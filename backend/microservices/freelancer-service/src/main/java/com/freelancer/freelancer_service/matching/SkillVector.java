@@ -0,0 +1,59 @@
+package com.freelancer.freelancer_service.matching;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable sparse, L2-normalized vector over skill ids. Ids are kept sorted so the dot product is a linear merge.
+ */
+public final class SkillVector {
+
+    public static final SkillVector EMPTY = new SkillVector(new int[0], new float[0]);
+
+    private final int[] ids;
+    private final float[] weights;
+
+    private SkillVector(int[] ids, float[] weights) {
+        this.ids = ids;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds a vector with equal weight for every distinct skill id.
+     */
+    public static SkillVector of(Collection<Integer> skillIds) {
+        int[] sorted = skillIds.stream().mapToInt(Integer::intValue).filter(id -> id >= 0).sorted().distinct().toArray();
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        float[] weights = new float[sorted.length];
+        Arrays.fill(weights, (float) (1.0 / Math.sqrt(sorted.length)));
+        return new SkillVector(sorted, weights);
+    }
+
+    public double dot(SkillVector other) {
+        double sum = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length && j < other.ids.length) {
+            if (ids[i] == other.ids[j]) {
+                sum += weights[i] * other.weights[j];
+                i++;
+                j++;
+            } else if (ids[i] < other.ids[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return sum;
+    }
+
+    public int[] ids() {
+        return ids;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.freelancer.freelancer_service.matching;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Interns skill names to small integer ids so skill vectors can be compared without string work.
+ */
+@Component
+public class SkillVocabulary {
+
+    /**
+     * Longest skill phrase (in words) looked up when extracting skills from free project text.
+     */
+    static final int MAX_PHRASE_WORDS = 3;
+
+    // Sentence punctuation after a skill ("java.", "docker,"); dots inside a name (node.js, .net) are kept
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[.,;:!?]+$");
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int intern(String skill) {
+        return ids.computeIfAbsent(normalize(skill), s -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Returns the id of a known skill, or -1 if nobody has listed it yet.
+     */
+    public int lookup(String skill) {
+        Integer id = ids.get(normalize(skill));
+        return id == null ? -1 : id;
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Splits a comma-separated skills field (as stored on Freelancer) into normalized skill names.
+     */
+    public static List<String> splitSkills(String skills) {
+        List<String> result = new ArrayList<>();
+        if (skills == null) {
+            return result;
+        }
+        for (String skill : skills.split(",")) {
+            String normalized = normalize(skill);
+            if (!normalized.isEmpty()) {
+                result.add(normalized);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits free text into lowercase word tokens, keeping characters that commonly appear in skill names (c++, c#, node.js)
+     * but not a trailing full stop. A token that was only punctuation becomes empty and ends any phrase.
+     */
+    public static String[] words(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^a-z0-9+#.]+");
+        for (int i = 0; i < words.length; i++) {
+            words[i] = TRAILING_PUNCTUATION.matcher(words[i]).replaceFirst("");
+        }
+        return words;
+    }
+
+    static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        String normalized = skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceFirst("").trim();
+    }
+}
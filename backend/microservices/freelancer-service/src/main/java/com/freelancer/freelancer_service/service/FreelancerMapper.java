@@ -0,0 +1,40 @@
+package com.freelancer.freelancer_service.service;
+
+import com.freelancer.freelancer_service.dto.FreelancerDto;
+import com.freelancer.freelancer_service.model.Freelancer;
+
+/**
+ * Entity to DTO mapping for freelancers, free of Spring dependencies so the benchmarks module can compile it directly.
+ */
+public final class FreelancerMapper {
+
+    private FreelancerMapper() {
+    }
+
+    public static FreelancerDto toDto(Freelancer f) {
+        FreelancerDto dto = new FreelancerDto();
+        dto.setFreelancerId(f.getFreelancerId());
+        dto.setUserId(f.getUserId());
+        dto.setName(f.getName());
+        dto.setEmail(f.getEmail());
+        dto.setSkills(f.getSkills());
+        dto.setRating(f.getRating());
+        dto.setCompletedProjects(f.getCompletedProjects());
+        dto.setAvailabilityStatus(f.getAvailabilityStatus());
+        dto.setProfileSummary(f.getProfileSummary());
+        dto.setPortfolioLink(f.getPortfolioLink());
+        dto.setLocation(f.getLocation());
+        dto.setProfilePictureUrl(f.getProfilePictureUrl());
+        dto.setPhoneNumber(f.getPhoneNumber());
+        dto.setSocialLinks(f.getSocialLinks());
+        dto.setCertifications(f.getCertifications());
+        dto.setLanguages(f.getLanguages());
+        dto.setHourlyRate(f.getHourlyRate());
+        dto.setEducation(f.getEducation());
+        dto.setWorkExperience(f.getWorkExperience());
+        dto.setAdditionalInfo(f.getAdditionalInfo());
+        dto.setCreatedAt(f.getCreatedAt());
+        dto.setUpdatedAt(f.getUpdatedAt());
+        return dto;
+    }
+}
@@ -3,13 +3,20 @@ package com.freelancer.freelancer_service.service;
 import com.freelancer.freelancer_service.dao.FreelancerRepository;
 import com.freelancer.freelancer_service.dto.FreelancerDto;
 import com.freelancer.freelancer_service.dto.ProjectDto;
+import com.freelancer.freelancer_service.dto.RecommendedFreelancerDto;
+import com.freelancer.freelancer_service.dto.RecommendedProjectDto;
 import com.freelancer.freelancer_service.feign.ProjectInterface;
+import com.freelancer.freelancer_service.matching.FreelancerMatch;
+import com.freelancer.freelancer_service.matching.MatchingEngine;
+import com.freelancer.freelancer_service.matching.ProjectCandidate;
 import com.freelancer.freelancer_service.model.Freelancer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,11 +24,13 @@ import java.util.stream.Collectors;
 public class FreelancerService {
     private final FreelancerRepository freelancerRepository;
     private final ProjectInterface projectInterface;
+    private final MatchingEngine matchingEngine;
 
     public FreelancerDto createFreelancer(FreelancerDto freelancerDto) {
         Freelancer freelancer = new Freelancer();
         mapDtoToModel(freelancer, freelancerDto);
         freelancerRepository.save(freelancer);
+        matchingEngine.indexFreelancer(freelancer);
         return freelancerDto;
     }
 
@@ -49,6 +58,7 @@ public class FreelancerService {
             if (dto.getWorkExperience() != null) f.setWorkExperience(dto.getWorkExperience());
             if (dto.getAdditionalInfo() != null) f.setAdditionalInfo(dto.getAdditionalInfo());
             freelancerRepository.save(f);
+            matchingEngine.indexFreelancer(f);
             return mapModelToDto(f);
         }
         return null;
@@ -82,30 +92,7 @@ public class FreelancerService {
     }
 
     private FreelancerDto mapModelToDto(Freelancer f) {
-        FreelancerDto dto = new FreelancerDto();
-        dto.setFreelancerId(f.getFreelancerId());
-        dto.setUserId(f.getUserId());
-        dto.setName(f.getName());
-        dto.setEmail(f.getEmail());
-        dto.setSkills(f.getSkills());
-        dto.setRating(f.getRating());
-        dto.setCompletedProjects(f.getCompletedProjects());
-        dto.setAvailabilityStatus(f.getAvailabilityStatus());
-        dto.setProfileSummary(f.getProfileSummary());
-        dto.setPortfolioLink(f.getPortfolioLink());
-        dto.setLocation(f.getLocation());
-        dto.setProfilePictureUrl(f.getProfilePictureUrl());
-        dto.setPhoneNumber(f.getPhoneNumber());
-        dto.setSocialLinks(f.getSocialLinks());
-        dto.setCertifications(f.getCertifications());
-        dto.setLanguages(f.getLanguages());
-        dto.setHourlyRate(f.getHourlyRate());
-        dto.setEducation(f.getEducation());
-        dto.setWorkExperience(f.getWorkExperience());
-        dto.setAdditionalInfo(f.getAdditionalInfo());
-        dto.setCreatedAt(f.getCreatedAt());
-        dto.setUpdatedAt(f.getUpdatedAt());
-        return dto;
+        return FreelancerMapper.toDto(f);
     }
 
     public ProjectDto getProjectById(Integer id) {
@@ -115,4 +102,32 @@ public class FreelancerService {
     public List<ProjectDto> getOpenProjects() {
         return projectInterface.getOpenProjects();
     }
+
+    public List<RecommendedProjectDto> getRecommendedProjects(Integer userId, int limit) {
+        return matchingEngine.recommendProjects(userId, limit);
+    }
+
+    /**
+     * Freelancers best matching a project, or null if the project does not exist. Open projects are taken from the
+     * matching snapshot; others are loaded from project-service.
+     */
+    public List<RecommendedFreelancerDto> getRecommendedFreelancers(Integer projectId, int limit) {
+        ProjectCandidate candidate = matchingEngine.currentProjectIndex().candidate(projectId);
+        if (candidate == null) {
+            ProjectDto project = projectInterface.getProjectById(projectId);
+            if (project == null || project.getId() == null) {
+                return null;
+            }
+            candidate = matchingEngine.toCandidate(project);
+        }
+        List<FreelancerMatch> matches = matchingEngine.topFreelancers(candidate, limit);
+        Map<Integer, Freelancer> freelancers = freelancerRepository.findAllById(
+                        matches.stream().map(m -> m.profile().freelancerId()).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Freelancer::getFreelancerId, Function.identity()));
+        return matches.stream()
+                .filter(m -> freelancers.containsKey(m.profile().freelancerId()))
+                .map(m -> new RecommendedFreelancerDto(mapModelToDto(freelancers.get(m.profile().freelancerId())), m.score()))
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,167 @@
+package com.freelancer.freelancer_service.matching;
+
+import com.freelancer.freelancer_service.dto.ProjectDto;
+import com.freelancer.freelancer_service.dto.RecommendedProjectDto;
+import com.freelancer.freelancer_service.feign.ProjectInterface;
+import com.freelancer.freelancer_service.model.Freelancer;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchingEngineTest {
+
+    private final SkillVocabulary vocabulary = new SkillVocabulary();
+    private final StubProjects projects = new StubProjects();
+    private final RecommendationStore store = new RecommendationStore();
+    private final MatchingEngine engine = new MatchingEngine(vocabulary, null, projects, store);
+
+    @Test
+    void budgetFitIsNeutralWithoutARateOrBudget() {
+        assertEquals(0.5, MatchingEngine.budgetFit(Double.NaN, project(1, "x", 1000.0)));
+        assertEquals(0.5, MatchingEngine.budgetFit(0, project(1, "x", 1000.0)));
+        assertEquals(0.5, MatchingEngine.budgetFit(20, project(1, "x", null)));
+    }
+
+    @Test
+    void budgetFitComparesTheRateWithTheBudgetPerHour() {
+        // 1600 over the default 160 hours affords 10 an hour
+        assertEquals(1.0, MatchingEngine.budgetFit(10, project(1, "x", 1600.0)));
+        assertEquals(0.5, MatchingEngine.budgetFit(20, project(1, "x", 1600.0)), 1e-9);
+
+        ProjectDto shortProject = project(1, "x", 1600.0);
+        shortProject.setDuration(Duration.ofHours(40));
+        assertEquals(1.0, MatchingEngine.budgetFit(40, shortProject));
+
+        ProjectDto withRange = project(1, "x", 800.0);
+        withRange.setBudgetMax(3200.0);
+        assertEquals(1.0, MatchingEngine.budgetFit(20, withRange));
+    }
+
+    @Test
+    void parseRateTakesTheFirstNumber() {
+        assertEquals(45.5, MatchingEngine.parseRate("$45.5/hr"));
+        assertTrue(Double.isNaN(MatchingEngine.parseRate("negotiable")));
+        assertTrue(Double.isNaN(MatchingEngine.parseRate(null)));
+    }
+
+    @Test
+    void perfectPairScoresOne() {
+        FreelancerProfile profile = engine.indexFreelancer(freelancer(1, "Java, Spring Boot", "10", 5.0, "Berlin"));
+        ProjectCandidate candidate = engine.toCandidate(project(1, "Java and Spring Boot developer in Berlin", 1600.0));
+
+        assertEquals(1.0, engine.score(profile, candidate), 1e-6);
+    }
+
+    @Test
+    void skillsEndingASentenceStillMatch() {
+        engine.indexFreelancer(freelancer(1, "Java., Docker", "10", 4.0, null));
+        ProjectCandidate candidate = engine.toCandidate(project(1, "We need Java. Docker, too!", 1600.0));
+
+        assertEquals(2, candidate.skills().ids().length);
+        assertEquals(vocabulary.lookup("java"), vocabulary.lookup("Java."));
+    }
+
+    @Test
+    void topProjectsOnlyRanksProjectsSharingASkill() {
+        FreelancerProfile profile = engine.indexFreelancer(freelancer(1, "java, sql", "10", 4.0, null));
+        ProjectIndex index = new ProjectIndex(List.of(
+                engine.toCandidate(project(1, "java", 1600.0)),
+                engine.toCandidate(project(2, "java sql", 1600.0)),
+                engine.toCandidate(project(3, "painting", 1600.0))), System.currentTimeMillis());
+
+        List<RecommendedProjectDto> top = engine.topProjects(profile, index, 5);
+
+        assertEquals(List.of(2, 1), top.stream().map(r -> r.getProject().getId()).toList());
+    }
+
+    @Test
+    void topFreelancersRanksTheReverseDirection() {
+        engine.indexFreelancer(freelancer(1, "java", "10", 4.0, null));
+        engine.indexFreelancer(freelancer(2, "java, sql", "10", 4.0, null));
+        engine.indexFreelancer(freelancer(3, "sql", "10", 4.0, null));
+        engine.indexFreelancer(freelancer(4, "painting", "10", 5.0, null));
+        ProjectCandidate candidate = engine.toCandidate(project(1, "java sql", 1600.0));
+
+        List<FreelancerMatch> top = engine.topFreelancers(candidate, 2);
+
+        assertEquals(2, top.size());
+        assertEquals(2, top.get(0).profile().userId().intValue());
+        assertTrue(top.get(0).score() > top.get(1).score());
+        assertTrue(top.stream().noneMatch(m -> m.profile().userId() == 4));
+    }
+
+    @Test
+    void nonPositiveLimitRecommendsNothing() {
+        engine.indexFreelancer(freelancer(1, "java", "10", 4.0, null));
+        projects.open.add(project(1, "java", 1600.0));
+        store.put(1, new RecommendationStore.Entry(new int[] {1}, new float[] {0.9f}, 50, System.currentTimeMillis()));
+
+        assertEquals(List.of(), engine.recommendProjects(1, -1));
+        assertEquals(List.of(), engine.recommendProjects(1, 0));
+        assertEquals(List.of(), engine.topFreelancers(engine.toCandidate(project(1, "java", 1600.0)), -1));
+    }
+
+    @Test
+    void failedRefreshServesTheStaleIndexUntilTheRetryDelay() {
+        ReflectionTestUtils.setField(engine, "projectIndexRetryMs", 60_000L);
+        projects.open.add(project(1, "java", 1600.0));
+        ProjectIndex loaded = engine.refreshProjectIndex();
+        projects.failing = true;
+
+        assertThrows(IllegalStateException.class, engine::refreshProjectIndex);
+        int calls = projects.calls.get();
+        for (int i = 0; i < 10; i++) {
+            assertSame(loaded, engine.currentProjectIndex());
+        }
+
+        assertEquals(calls, projects.calls.get(), "no calls to project-service while backing off");
+    }
+
+    private static ProjectDto project(int id, String title, Double budget) {
+        ProjectDto project = new ProjectDto();
+        project.setId(id);
+        project.setTitle(title);
+        project.setBudget(budget);
+        return project;
+    }
+
+    private static Freelancer freelancer(int userId, String skills, String rate, double rating, String location) {
+        Freelancer freelancer = new Freelancer();
+        freelancer.setFreelancerId(userId);
+        freelancer.setUserId(userId);
+        freelancer.setSkills(skills);
+        freelancer.setHourlyRate(rate);
+        freelancer.setRating(rating);
+        freelancer.setLocation(location);
+        return freelancer;
+    }
+
+    private static final class StubProjects implements ProjectInterface {
+        private final List<ProjectDto> open = new ArrayList<>();
+        private final AtomicInteger calls = new AtomicInteger();
+        private boolean failing;
+
+        @Override
+        public ProjectDto getProjectById(Integer id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<ProjectDto> getOpenProjects() {
+            calls.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("project-service down");
+            }
+            return open;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.freelancer.freelancer_service.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkillVectorTest {
+
+    @Test
+    void idsAreSortedDistinctAndNonNegative() {
+        SkillVector vector = SkillVector.of(List.of(7, 3, 7, -1, 5));
+
+        assertArrayEquals(new int[] {3, 5, 7}, vector.ids());
+    }
+
+    @Test
+    void noUsableIdsGiveTheEmptyVector() {
+        assertSame(SkillVector.EMPTY, SkillVector.of(List.of()));
+        assertSame(SkillVector.EMPTY, SkillVector.of(List.of(-1)));
+        assertTrue(SkillVector.EMPTY.isEmpty());
+    }
+
+    @Test
+    void vectorsAreUnitLength() {
+        SkillVector vector = SkillVector.of(List.of(1, 2, 3, 4));
+
+        assertEquals(1.0, vector.dot(vector), 1e-6);
+    }
+
+    @Test
+    void dotIsTheCosineOfTheSharedSkills() {
+        SkillVector two = SkillVector.of(List.of(1, 2));
+        SkillVector three = SkillVector.of(List.of(2, 3, 4));
+
+        assertEquals(1 / Math.sqrt(6), two.dot(three), 1e-6);
+        assertEquals(two.dot(three), three.dot(two), 1e-9);
+    }
+
+    @Test
+    void disjointOrEmptyVectorsScoreZero() {
+        SkillVector vector = SkillVector.of(List.of(1, 2));
+
+        assertEquals(0.0, vector.dot(SkillVector.of(List.of(3, 4))));
+        assertEquals(0.0, vector.dot(SkillVector.EMPTY));
+    }
+}
@@ -0,0 +1,119 @@
+package com.freelancer.loadtest;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process PostgreSQL standing in for the per-service databases.
+ * <p>
+ * Real Postgres binaries are used rather than H2 because the services' DDL and queries rely on
+ * Postgres-only features (declarative partitions, DO blocks, {@code SKIP LOCKED}, {@code RETURNING}).
+ * The schema and seed rows come straight from {@code sql-scripts/}, so the harness exercises the
+ * same layout as a hand-provisioned environment.
+ */
+final class EmbeddedDatabase implements AutoCloseable {
+
+    static final String USERNAME = "postgres";
+    static final String PASSWORD = "postgres";
+
+    /** DDL script for each service database, in the order of {@code sql-scripts/}. */
+    private static final Map<String, String> SCHEMA_SCRIPTS = new LinkedHashMap<>();
+
+    static {
+        SCHEMA_SCRIPTS.put("freelancer_user", "01_user_service.sql");
+        SCHEMA_SCRIPTS.put("freelancer_client", "02_client_service.sql");
+        SCHEMA_SCRIPTS.put("freelancer_db", "03_freelancer_service.sql");
+        SCHEMA_SCRIPTS.put("project_service", "04_project_service.sql");
+        SCHEMA_SCRIPTS.put("bid_service", "05_bid_service.sql");
+    }
+
+    /** Section headers in 06_sample_data.sql, e.g. {@code -- ==== USER SERVICE (freelancer_user) ====}. */
+    private static final Pattern SECTION = Pattern.compile("(?m)^-- ==== .+ \\((\\w+)\\) ====\\s*$");
+
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedDatabase(EmbeddedPostgres postgres) {
+        this.postgres = postgres;
+    }
+
+    static EmbeddedDatabase start(int port, Path sqlDir) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().setPort(port).start();
+        EmbeddedDatabase database = new EmbeddedDatabase(postgres);
+        try {
+            database.createDatabases(sqlDir.resolve("00_create_databases.sql"));
+            for (Map.Entry<String, String> entry : SCHEMA_SCRIPTS.entrySet()) {
+                database.execute(entry.getKey(), Files.readString(sqlDir.resolve(entry.getValue())));
+            }
+            database.seed(sqlDir.resolve("06_sample_data.sql"));
+        } catch (IOException | SQLException | RuntimeException e) {
+            database.close();
+            throw e;
+        }
+        return database;
+    }
+
+    int port() {
+        return postgres.getPort();
+    }
+
+    /** CREATE DATABASE cannot run inside a transaction block, so each statement is sent on its own. */
+    private void createDatabases(Path script) throws IOException, SQLException {
+        try (Connection connection = postgres.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String sql : stripComments(Files.readString(script)).split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql.trim());
+                }
+            }
+        }
+    }
+
+    /** Runs the seed file section by section, each against the database named in its header. */
+    private void seed(Path script) throws IOException, SQLException {
+        String content = Files.readString(script);
+        Matcher matcher = SECTION.matcher(content);
+        String database = null;
+        int sectionStart = 0;
+        while (matcher.find()) {
+            if (database != null) {
+                execute(database, content.substring(sectionStart, matcher.start()));
+            }
+            database = matcher.group(1);
+            sectionStart = matcher.end();
+        }
+        if (database != null) {
+            execute(database, content.substring(sectionStart));
+        }
+    }
+
+    private void execute(String database, String sql) throws SQLException {
+        if (stripComments(sql).isBlank()) {
+            return;
+        }
+        DataSource dataSource = postgres.getDatabase(USERNAME, database);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String stripComments(String sql) {
+        return sql.replaceAll("(?m)--.*$", "");
+    }
+
+    @Override
+    public void close() throws IOException {
+        postgres.close();
+    }
+}
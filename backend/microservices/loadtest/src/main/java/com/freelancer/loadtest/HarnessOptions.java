@@ -0,0 +1,75 @@
+package com.freelancer.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Command-line options for {@link LoadTestHarness}, parsed from {@code --name=value} pairs.
+ */
+record HarnessOptions(int users,
+                      Duration duration,
+                      Duration warmup,
+                      int dbPort,
+                      boolean bootServices,
+                      URI gateway,
+                      Path servicesDir,
+                      Path sqlDir,
+                      Path resultsDir) {
+
+    static HarnessOptions parse(String[] args) {
+        int users = 20;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(15);
+        int dbPort = 54329;
+        boolean bootServices = true;
+        URI gateway = URI.create("http://localhost:8765");
+        Path servicesDir = Path.of("..");
+        Path sqlDir = Path.of("..", "..", "..", "sql-scripts");
+        Path resultsDir = Path.of("results");
+
+        for (String arg : args) {
+            if (arg.equals("--skip-boot")) {
+                bootServices = false;
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String name = arg.substring(2, eq);
+            String value = arg.substring(eq + 1);
+            switch (name) {
+                case "users" -> users = Integer.parseInt(value);
+                case "duration" -> duration = parseDuration(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "db-port" -> dbPort = Integer.parseInt(value);
+                case "gateway" -> gateway = URI.create(value);
+                case "services-dir" -> servicesDir = Path.of(value);
+                case "sql-dir" -> sqlDir = Path.of(value);
+                case "results-dir" -> resultsDir = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        if (users < 1) {
+            throw new IllegalArgumentException("--users must be at least 1");
+        }
+        return new HarnessOptions(users, duration, warmup, dbPort, bootServices, gateway,
+                servicesDir.toAbsolutePath().normalize(), sqlDir.toAbsolutePath().normalize(),
+                resultsDir.toAbsolutePath().normalize());
+    }
+
+    /** Accepts {@code 90s}, {@code 5m} or a bare number of seconds. */
+    private static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
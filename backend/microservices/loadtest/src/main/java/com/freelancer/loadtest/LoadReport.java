@@ -0,0 +1,107 @@
+package com.freelancer.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-step latency histograms and error counts, printed as a table and written as JSON.
+ * Latencies are recorded in microseconds; a step counts as an error on any non-2xx response or I/O failure.
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final DateTimeFormatter FILE_STAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Map<Step, StepStats> steps = new EnumMap<>(Step.class);
+
+    LoadReport() {
+        for (Step step : Step.values()) {
+            steps.put(step, new StepStats());
+        }
+    }
+
+    void success(Step step, long elapsedNanos) {
+        steps.get(step).latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos),
+                HIGHEST_TRACKABLE_MICROS));
+    }
+
+    void failure(Step step, int status) {
+        StepStats stats = steps.get(step);
+        stats.errors.increment();
+        stats.statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    void print(double measuredSeconds) {
+        System.out.printf("%n%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+                "step", "ok", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Map.Entry<Step, StepStats> entry : steps.entrySet()) {
+            Histogram h = entry.getValue().latency;
+            long errors = entry.getValue().errors.sum();
+            System.out.printf("%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), h.getTotalCount(), errors,
+                    (h.getTotalCount() + errors) / measuredSeconds,
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                    millis(h.getValueAtPercentile(99)), millis(h.getMaxValue()));
+        }
+    }
+
+    Path write(Path resultsDir, HarnessOptions options, double measuredSeconds) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Map.Entry<Step, StepStats> entry : steps.entrySet()) {
+            Histogram h = entry.getValue().latency;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("step", entry.getKey().name());
+            row.put("ok", h.getTotalCount());
+            row.put("errors", entry.getValue().errors.sum());
+            row.put("throughputPerSec", (h.getTotalCount() + entry.getValue().errors.sum()) / measuredSeconds);
+            row.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            row.put("p90Ms", millis(h.getValueAtPercentile(90)));
+            row.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            row.put("maxMs", millis(h.getMaxValue()));
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            entry.getValue().statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            row.put("errorStatuses", statuses);
+            rows.add(row);
+        }
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("timestamp", Instant.now().toString());
+        document.put("users", options.users());
+        document.put("measuredSeconds", measuredSeconds);
+        document.put("warmupSeconds", options.warmup().toSeconds());
+        document.put("steps", rows);
+
+        Files.createDirectories(resultsDir);
+        Path file = resultsDir.resolve("loadtest-" + FILE_STAMP.format(Instant.now()) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+        return file;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static final class StepStats {
+        /** Status 0 stands for a transport failure (timeout, refused connection). */
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
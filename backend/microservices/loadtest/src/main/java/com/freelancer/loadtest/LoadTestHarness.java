@@ -0,0 +1,87 @@
+package com.freelancer.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots the marketplace on local stand-ins and drives the register → post → browse → bid → accept
+ * flow with a fixed pool of virtual users.
+ * <p>
+ * Usage: {@code java -jar target/loadtest.jar [--users=20] [--duration=60s] [--warmup=15s]
+ * [--db-port=54329] [--skip-boot] [--gateway=http://localhost:8765]}. With {@code --skip-boot} the
+ * harness only generates load against an already running gateway.
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+
+        EmbeddedDatabase database = null;
+        ServiceFleet fleet = null;
+        try {
+            if (options.bootServices()) {
+                System.out.println("Starting embedded PostgreSQL on :" + options.dbPort());
+                database = EmbeddedDatabase.start(options.dbPort(), options.sqlDir());
+                System.out.println("Starting services");
+                fleet = ServiceFleet.start(options.servicesDir(), database.port(), Path.of("target", "logs"));
+            }
+            run(options);
+        } finally {
+            if (fleet != null) {
+                fleet.close();
+            }
+            if (database != null) {
+                database.close();
+            }
+        }
+    }
+
+    private static void run(HarnessOptions options) throws Exception {
+        LoadReport report = new LoadReport();
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        MarketplaceScenario scenario = new MarketplaceScenario(http, mapper, options.gateway(), report, runId);
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+        System.out.printf("Running %d users: %ds warm-up, %ds measured%n",
+                options.users(), options.warmup().toSeconds(), options.duration().toSeconds());
+
+        ExecutorService pool = Executors.newFixedThreadPool(options.users());
+        try {
+            List<Future<?>> users = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                int userIndex = i;
+                users.add(pool.submit(() -> scenario.run(userIndex, measureFrom, deadline)));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // In-flight iterations finish after the deadline, so measure up to the actual end
+        double measuredSeconds = Math.max(1e-3, (System.nanoTime() - measureFrom) / 1e9);
+        report.print(measuredSeconds);
+        Path file = report.write(options.resultsDir(), options, measuredSeconds);
+        System.out.println("\nResults written to " + file);
+    }
+}
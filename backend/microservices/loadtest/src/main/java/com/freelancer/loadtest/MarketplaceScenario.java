@@ -0,0 +1,171 @@
+package com.freelancer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One virtual user's walk through the marketplace, driven entirely through the gateway.
+ * <p>
+ * Each user registers a client and a freelancer account and logs both in, then loops
+ * post project → browse open → submit bid → accept bid until the deadline. A failed step skips the
+ * remaining steps of that iteration, since they depend on its result.
+ */
+final class MarketplaceScenario {
+
+    private static final List<String> CATEGORIES =
+            List.of("Web Development", "Mobile Development", "Data Science", "Design", "Writing");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper mapper;
+    private final URI gateway;
+    private final LoadReport report;
+    private final String runId;
+
+    MarketplaceScenario(HttpClient http, ObjectMapper mapper, URI gateway, LoadReport report, String runId) {
+        this.http = http;
+        this.mapper = mapper;
+        this.gateway = gateway;
+        this.report = report;
+        this.runId = runId;
+    }
+
+    /**
+     * @param measureFromNanos loop steps that start before this {@link System#nanoTime()} are warm-up and not recorded
+     * @param deadlineNanos    no new iteration starts after this point
+     */
+    void run(int userIndex, long measureFromNanos, long deadlineNanos) {
+        String clientEmail = "lt-" + runId + "-client-" + userIndex + "@example.com";
+        String freelancerEmail = "lt-" + runId + "-freelancer-" + userIndex + "@example.com";
+        String password = "LoadTest#" + userIndex;
+
+        // Account setup happens once per user, so it is always recorded
+        if (call(Step.REGISTER, true, post("/users/register", null, Map.of(
+                "name", "Load Client " + userIndex, "userName", clientEmail,
+                "password", password, "role", "CLIENT"))) == null) {
+            return;
+        }
+        if (call(Step.REGISTER, true, post("/users/register", null, Map.of(
+                "name", "Load Freelancer " + userIndex, "userName", freelancerEmail,
+                "password", password, "role", "FREELANCER"))) == null) {
+            return;
+        }
+        String clientToken = call(Step.LOGIN, true,
+                post("/users/login", null, Map.of("userName", clientEmail, "password", password)));
+        String freelancerToken = call(Step.LOGIN, true,
+                post("/users/login", null, Map.of("userName", freelancerEmail, "password", password)));
+        if (clientToken == null || freelancerToken == null) {
+            return;
+        }
+
+        for (int iteration = 0; System.nanoTime() < deadlineNanos; iteration++) {
+            boolean record = System.nanoTime() >= measureFromNanos;
+
+            Map<String, Object> project = new LinkedHashMap<>();
+            project.put("title", "Load test project " + userIndex + "-" + iteration);
+            project.put("description", "Synthetic listing created by the load-test harness");
+            project.put("budget", 1000.0 + iteration % 50 * 100);
+            project.put("budgetMin", 500.0);
+            project.put("budgetMax", 6000.0);
+            project.put("category", CATEGORIES.get((userIndex + iteration) % CATEGORIES.size()));
+            project.put("deadline", LocalDate.now().plusDays(30).toString());
+            Integer projectId = readInt(call(Step.POST_PROJECT, record,
+                    post("/clients/createProject", clientToken, project)), "id");
+            if (projectId == null) {
+                continue;
+            }
+
+            if (call(Step.BROWSE_OPEN, record, get("/projects/open", freelancerToken)) == null) {
+                continue;
+            }
+
+            Integer bidId = readInt(call(Step.SUBMIT_BID, record, post("/bids/submit", freelancerToken, Map.of(
+                    "projectId", projectId,
+                    "proposalText", "I can deliver this within the deadline.",
+                    "bidAmount", 900.0 + iteration % 20 * 50))), "bidId");
+            if (bidId == null) {
+                continue;
+            }
+
+            call(Step.ACCEPT_BID, record, put("/bids/" + bidId + "/accept", clientToken));
+        }
+    }
+
+    /** Sends the request and returns the body on 2xx; returns {@code null} and records an error otherwise. */
+    private String call(Step step, boolean record, HttpRequest request) {
+        long start = System.nanoTime();
+        int status = 0;
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            if (status / 100 == 2) {
+                if (record) {
+                    report.success(step, System.nanoTime() - start);
+                }
+                return response.body();
+            }
+        } catch (IOException e) {
+            // Counted below with status 0
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (record) {
+            report.failure(step, status);
+        }
+        return null;
+    }
+
+    private Integer readInt(String body, String field) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            JsonNode node = mapper.readTree(body).get(field);
+            return node != null && node.canConvertToInt() ? node.intValue() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        return builder(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build();
+    }
+
+    private HttpRequest put(String path, String token) {
+        return builder(path, token).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return builder(path, token).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(gateway.resolve(path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String toJson(Object body) {
+        try {
+            return mapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode request body", e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.freelancer.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launches the packaged service jars as child processes wired to the embedded database.
+ * <p>
+ * Eureka is replaced by Spring Cloud's static {@code SimpleDiscoveryClient}: every process receives
+ * the same fixed instance list, so {@code lb://} routes and Feign clients resolve without the
+ * service-registry running.
+ */
+final class ServiceFleet implements AutoCloseable {
+
+    record Service(String module, String serviceId, int port, String database) {
+
+        boolean usesDatabase() {
+            return database != null;
+        }
+    }
+
+    /** Backends first, so the gateway is the last process reported healthy. */
+    static final List<Service> SERVICES = List.of(
+            new Service("user-service", "USER-SERVICE", 8081, "freelancer_user"),
+            new Service("client-service", "CLIENT-SERVICE", 8082, "freelancer_client"),
+            new Service("freelancer-service", "FREELANCER-SERVICE", 8084, "freelancer_db"),
+            new Service("project-service", "PROJECT-SERVICE", 8083, "project_service"),
+            new Service("bid-service", "BID-SERVICE", 8085, "bid_service"),
+            new Service("api-gateway", null, 8765, null));
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final List<Process> processes = new ArrayList<>();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    static ServiceFleet start(Path servicesDir, int dbPort, Path logDir) throws IOException, InterruptedException {
+        Files.createDirectories(logDir);
+        ServiceFleet fleet = new ServiceFleet();
+        try {
+            // All processes boot in parallel; lb:// targets are only resolved once traffic starts
+            for (Service service : SERVICES) {
+                fleet.launch(service, servicesDir, dbPort, logDir.resolve(service.module() + ".log"));
+            }
+            for (int i = 0; i < SERVICES.size(); i++) {
+                Service service = SERVICES.get(i);
+                fleet.awaitHealthy(service, fleet.processes.get(i), logDir.resolve(service.module() + ".log"));
+                System.out.printf("  %-20s up on :%d%n", service.module(), service.port());
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            fleet.close();
+            throw e;
+        }
+        return fleet;
+    }
+
+    private void launch(Service service, Path servicesDir, int dbPort, Path log) throws IOException {
+        Path jar = servicesDir.resolve(service.module()).resolve("target")
+                .resolve(service.module() + "-0.0.1-SNAPSHOT.jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException("Missing " + jar + "; run 'mvn -DskipTests package' in "
+                    + servicesDir.resolve(service.module()));
+        }
+        List<String> command = new ArrayList<>(List.of(javaExecutable(), "-jar", jar.toString()));
+        command.add("--eureka.client.enabled=false");
+        command.add("--management.tracing.sampling.probability=0");
+        for (Service target : SERVICES) {
+            if (target.serviceId() != null) {
+                // Bracket notation keeps the upper-case service ids as map keys
+                command.add("--spring.cloud.discovery.client.simple.instances[" + target.serviceId()
+                        + "][0].uri=http://localhost:" + target.port());
+            }
+        }
+        if (service.usesDatabase()) {
+            command.add("--spring.datasource.url=jdbc:postgresql://localhost:" + dbPort + "/" + service.database());
+            command.add("--spring.datasource.username=" + EmbeddedDatabase.USERNAME);
+            command.add("--spring.datasource.password=" + EmbeddedDatabase.PASSWORD);
+        }
+        if ("project-service".equals(service.module())) {
+            command.add("--spring.r2dbc.url=r2dbc:postgresql://localhost:" + dbPort + "/" + service.database());
+            command.add("--spring.r2dbc.username=" + EmbeddedDatabase.USERNAME);
+            command.add("--spring.r2dbc.password=" + EmbeddedDatabase.PASSWORD);
+        }
+        if (service.serviceId() == null) {
+            // A handful of virtual users would otherwise trip the per-user quotas within seconds
+            command.add("--gateway.rate-limit.enabled=false");
+        }
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+    }
+
+    private void awaitHealthy(Service service, Process process, Path log) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + service.port() + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.module() + " exited with code " + process.exitValue()
+                        + "; see " + log);
+            }
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service.module() + " did not become healthy within "
+                + STARTUP_TIMEOUT.toSeconds() + "s; see " + log);
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    @Override
+    public void close() {
+        for (Process process : processes) {
+            process.destroy();
+        }
+        for (Process process : processes) {
+            try {
+                if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
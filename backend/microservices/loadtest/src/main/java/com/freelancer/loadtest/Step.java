@@ -0,0 +1,13 @@
+package com.freelancer.loadtest;
+
+/**
+ * The measured steps of the marketplace scenario, in the order a virtual user performs them.
+ */
+enum Step {
+    REGISTER,
+    LOGIN,
+    POST_PROJECT,
+    BROWSE_OPEN,
+    SUBMIT_BID,
+    ACCEPT_BID
+}
@@ -1,11 +1,25 @@
 package com.project.project_service;
 
+import com.freelancer.commons.loadbalancer.LatencyAwareLoadBalancerConfiguration;
+import com.freelancer.commons.observation.RepositoryObservationConfiguration;
+import com.freelancer.commons.smile.SmileContentNegotiationConfiguration;
+import com.freelancer.commons.startup.LazyInitializationConfiguration;
+import com.project.project_service.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+@Import({RepositoryObservationConfiguration.class, LazyInitializationConfiguration.class,
+		SmileContentNegotiationConfiguration.class})
+@EnableFeignClients
+@EnableScheduling
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ProjectServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,48 @@
+package com.project.project_service.config;
+
+import com.freelancer.commons.logging.SamplingTurboFilter;
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.dto.ProjectStatsDto;
+import com.project.project_service.event.ProjectEvent;
+import com.project.project_service.feign.BidInterface;
+import com.project.project_service.model.ProjectStatusConverter;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * Reachability metadata for the native image ({@code mvn -Pnative native:compile}) that Spring AOT cannot infer.
+ * Entities and repositories are covered by Spring AOT and Hibernate's own native-image support.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    /** Built reflectively by logback from logback-spring.xml. */
+    private static final String[] LOGBACK_TYPES = {
+            "net.logstash.logback.encoder.LogstashEncoder",
+            "net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender"
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Feign reads the contract annotations reflectively and proxies the interface with a JDK proxy
+        hints.reflection().registerType(BidInterface.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.proxies().registerJdkProxy(BidInterface.class);
+
+        // Auto-applied converter, instantiated by Hibernate rather than by Spring
+        hints.reflection().registerType(ProjectStatusConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        // Written to SSE streams and Smile/JSON responses outside controller signatures
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                ProjectEvent.class, ProjectDto.class, ProjectStatsDto.class);
+
+        for (String type : LOGBACK_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.resources().registerPattern("com/freelancer/commons/logging/logback-base.xml");
+    }
+}
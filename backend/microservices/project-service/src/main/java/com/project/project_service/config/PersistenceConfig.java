@@ -0,0 +1,39 @@
+package com.project.project_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * JDBC/JPA and R2DBC side by side. Only the two pieces Boot does not provide in that setup are declared here:
+ * <ul>
+ *     <li>the DataSource: {@code DataSourceAutoConfiguration} is conditional on there being no R2DBC
+ *     {@code ConnectionFactory}, so it backs off entirely (see PersistenceConfigTest). It is still bound from
+ *     {@code spring.datasource.*}, so the yml is the same as for a JDBC-only service;</li>
+ *     <li>a primary transaction manager: with the R2DBC one alongside, {@code @Transactional} without a
+ *     qualifier would not know which to use, so the JPA one is marked primary.</li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class PersistenceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
@@ -1,11 +1,16 @@
 package com.project.project_service.controller;
 
 import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.dto.ProjectStatsDto;
 import com.project.project_service.model.Project;
 import com.project.project_service.service.ProjectService;
+import com.project.project_service.service.ProjectStatsService;
+import com.project.project_service.event.ProjectFeedPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -15,6 +20,8 @@ import java.util.List;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectFeedPublisher projectFeedPublisher;
+    private final ProjectStatsService projectStatsService;
 
     @PostMapping("/create")
     public ResponseEntity<ProjectDto> createProject(@RequestBody Project project) {
@@ -22,8 +29,9 @@ public class ProjectController {
     }
 
     @GetMapping("/getProject/{id}")
-    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Integer id) {
-        return ResponseEntity.ok(projectService.getProjectById(id));
+    public ResponseEntity<ProjectDto> getProjectById(@PathVariable Integer id,
+                                                     @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(projectService.getProjectById(id, includeArchived));
     }
 
     @GetMapping("/all")
@@ -36,9 +44,28 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.getOpenProjects());
     }
 
+    /**
+     * Server-sent event stream of project creations and status changes, optionally filtered by
+     * category and by a comma-separated list of skills matched against title, description and category.
+     */
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProjectFeed(@RequestParam(required = false) String category,
+                                        @RequestParam(required = false) String skill) {
+        return projectFeedPublisher.subscribe(category, skill);
+    }
+
+    /**
+     * Project counts per category and status, served from in-memory counters.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ProjectStatsDto> getProjectStats() {
+        return ResponseEntity.ok(projectStatsService.getStats());
+    }
+
     @GetMapping("/client/{clientId}")
-    public ResponseEntity<List<ProjectDto>> getProjectsByClient(@PathVariable Integer clientId) {
-        return ResponseEntity.ok(projectService.getProjectsByClient(clientId));
+    public ResponseEntity<List<ProjectDto>> getProjectsByClient(@PathVariable Integer clientId,
+                                                                @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(projectService.getProjectsByClient(clientId, includeArchived));
     }
 
     @GetMapping("/category/{category}")
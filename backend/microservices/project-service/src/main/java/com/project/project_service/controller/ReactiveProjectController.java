@@ -0,0 +1,45 @@
+package com.project.project_service.controller;
+
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.service.ReactiveProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read path mirroring the list and lookup endpoints of {@link ProjectController}. Requests are handled
+ * asynchronously, so no servlet thread is held while R2DBC waits on the database. Ask for
+ * {@code application/x-ndjson} to stream list results with backpressure; plain JSON collects them into an array.
+ */
+@RestController
+@RequestMapping("/projects/rx")
+@RequiredArgsConstructor
+public class ReactiveProjectController {
+
+    private final ReactiveProjectService reactiveProjectService;
+
+    @GetMapping("/getProject/{id}")
+    public Mono<ProjectDto> getProjectById(@PathVariable Integer id) {
+        return reactiveProjectService.getProjectById(id);
+    }
+
+    @GetMapping(value = "/open", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectDto> getOpenProjects() {
+        return reactiveProjectService.getOpenProjects();
+    }
+
+    @GetMapping(value = "/client/{clientId}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectDto> getProjectsByClient(@PathVariable Integer clientId) {
+        return reactiveProjectService.getProjectsByClient(clientId);
+    }
+
+    @GetMapping(value = "/category/{category}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<ProjectDto> getProjectsByCategory(@PathVariable String category) {
+        return reactiveProjectService.getProjectsByCategory(category);
+    }
+}
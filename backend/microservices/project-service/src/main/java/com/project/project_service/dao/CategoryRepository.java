@@ -0,0 +1,12 @@
+package com.project.project_service.dao;
+
+import com.project.project_service.model.Category;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Short> {
+    Optional<Category> findByNormalizedName(String normalizedName);
+}
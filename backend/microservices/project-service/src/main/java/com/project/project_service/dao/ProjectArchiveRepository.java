@@ -0,0 +1,112 @@
+package com.project.project_service.dao;
+
+import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access to {@code projects_archive}, the month-partitioned home of closed projects past the retention window.
+ * Plain JDBC because the archive is not a JPA entity and partitions are created dynamically.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectArchiveRepository {
+
+    private static final String COLUMNS = "id, client_id, title, description, budget, budget_min, budget_max, "
+            + "category, category_id, deadline, duration, status, assigned_freelancer_id, created_at, updated_at";
+
+    // The terminal statuses; idx_projects_closed_updated in V1__baseline.sql must use the same list
+    static final String CLOSED_STATUSES = ProjectStatus.COMPLETED_CODE + ", " + ProjectStatus.CANCELLED_CODE + ", "
+            + ProjectStatus.EXPIRED_CODE;
+
+    // Projects still waiting for bid-service to reject their bids stay until the expiry scheduler clears the flag
+    private static final String CLOSED = "status IN (" + CLOSED_STATUSES + ") AND NOT bids_pending_rejection";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<LocalDate> knownPartitions = ConcurrentHashMap.newKeySet();
+
+    public boolean archiveExists() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass('projects_archive') IS NOT NULL", Boolean.class));
+    }
+
+    /**
+     * First day of every month that holds at least one archivable project.
+     */
+    public List<LocalDate> pendingMonths(LocalDateTime cutoff) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT CAST(date_trunc('month', updated_at) AS date) FROM projects_table "
+                        + "WHERE " + CLOSED + " AND updated_at < ?",
+                LocalDate.class, Timestamp.valueOf(cutoff));
+    }
+
+    public void ensurePartition(LocalDate month) {
+        if (knownPartitions.contains(month)) {
+            return;
+        }
+        LocalDate from = month.withDayOfMonth(1);
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS projects_archive_y%04dm%02d PARTITION OF projects_archive "
+                        + "FOR VALUES FROM ('%s') TO ('%s')",
+                from.getYear(), from.getMonthValue(), from, from.plusMonths(1)));
+        knownPartitions.add(month);
+    }
+
+    /**
+     * Moves up to {@code limit} closed projects last updated before {@code cutoff} into the archive in one
+     * statement, so a row is never in both tables or in neither.
+     */
+    public int moveBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(
+                "WITH moved AS (DELETE FROM projects_table WHERE id IN ("
+                        + "SELECT id FROM projects_table WHERE " + CLOSED + " AND updated_at < ? "
+                        + "ORDER BY updated_at LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *) "
+                        + "INSERT INTO projects_archive (" + COLUMNS + ", closed_at) "
+                        + "SELECT " + COLUMNS + ", updated_at FROM moved",
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    public Optional<Project> findById(Integer id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM projects_archive WHERE id = ?", ROW_MAPPER, id)
+                .stream().findFirst();
+    }
+
+    public List<Project> findByClientId(Integer clientId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM projects_archive WHERE client_id = ?", ROW_MAPPER, clientId);
+    }
+
+    private static final RowMapper<Project> ROW_MAPPER = (rs, rowNum) -> {
+        Project project = new Project();
+        project.setId(rs.getInt("id"));
+        project.setClientId(rs.getObject("client_id", Integer.class));
+        project.setTitle(rs.getString("title"));
+        project.setDescription(rs.getString("description"));
+        project.setBudget(rs.getObject("budget", Double.class));
+        project.setBudgetMin(rs.getObject("budget_min", Double.class));
+        project.setBudgetMax(rs.getObject("budget_max", Double.class));
+        project.setCategory(rs.getString("category"));
+        project.setCategoryId(rs.getObject("category_id", Short.class));
+        Date deadline = rs.getDate("deadline");
+        project.setDeadline(deadline != null ? deadline.toLocalDate() : null);
+        Long duration = rs.getObject("duration", Long.class);
+        project.setDuration(duration != null ? Duration.ofNanos(duration) : null);
+        project.setStatus(ProjectStatus.fromCode(rs.getShort("status")));
+        project.setAssignedFreelancerId(rs.getObject("assigned_freelancer_id", Integer.class));
+        project.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        project.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        return project;
+    };
+}
@@ -1,14 +1,78 @@
 package com.project.project_service.dao;
 
 import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
-    List<Project> findByStatus(String status);
+    /**
+     * Literal status so the planner can use the partial index on open projects.
+     */
+    @Query(value = "SELECT * FROM projects_table WHERE status = " + ProjectStatus.OPEN_CODE + " ORDER BY created_at DESC",
+            nativeQuery = true)
+    List<Project> findOpenProjects();
+
     List<Project> findByClientId(Integer clientId);
-    List<Project> findByCategoryIgnoreCase(String category);
+    List<Project> findByCategoryId(Short categoryId);
+
+    /**
+     * Marks up to {@code limit} open projects whose deadline is before {@code today} as EXPIRED, flags their bids
+     * for rejection and returns their ids.
+     * Walks the partial deadline index in deadline order; SKIP LOCKED lets several instances expire disjoint batches.
+     * <p>
+     * Deliberately not {@code @Modifying}: that would run the statement through {@code executeUpdate}, which only
+     * returns a row count. Because of {@code RETURNING} the UPDATE yields a result set, so it runs as a query and
+     * returns the ids. It bypasses the persistence context, so callers must not rely on loaded entities afterwards.
+     */
+    @Transactional
+    @Query(value = "UPDATE projects_table SET status = " + ProjectStatus.EXPIRED_CODE + ", bids_pending_rejection = true, "
+            + "updated_at = now() WHERE id IN ("
+            + "SELECT id FROM projects_table WHERE status = " + ProjectStatus.OPEN_CODE + " AND deadline < :today "
+            + "ORDER BY deadline LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "AND status = " + ProjectStatus.OPEN_CODE + " RETURNING id", nativeQuery = true)
+    List<Integer> expireOverdue(LocalDate today, int limit);
+
+    /**
+     * Compare-and-set transition: only applies if the project is still in {@code from}. With {@code rejectBids} the
+     * project is flagged in the same statement for the sweep that rejects its pending bids. Clears the persistence
+     * context afterwards so later reads in the same request do not see the pre-update entity.
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE projects_table p SET p.status = :to, "
+            + "p.assignedFreelancerId = COALESCE(:assignedFreelancerId, p.assignedFreelancerId), "
+            + "p.bidsPendingRejection = CASE WHEN :rejectBids = true THEN true ELSE p.bidsPendingRejection END, "
+            + "p.updatedAt = CURRENT_TIMESTAMP WHERE p.id = :id AND p.status = :from")
+    int transitionStatus(Integer id, ProjectStatus from, ProjectStatus to, Integer assignedFreelancerId,
+                         boolean rejectBids);
+
+    /**
+     * Closed projects whose pending bids bid-service has not rejected yet, oldest id first.
+     */
+    @Query(value = "SELECT id FROM projects_table WHERE bids_pending_rejection ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Integer> findIdsWithBidsPendingRejection(int limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE projects_table p SET p.bidsPendingRejection = false WHERE p.id IN :ids")
+    int clearBidsPendingRejection(List<Integer> ids);
+
+    @Query("SELECT p.category, p.status, COUNT(p) FROM projects_table p GROUP BY p.category, p.status")
+    List<Object[]> countByCategoryAndStatus();
+
+    @Query("SELECT DISTINCT p.category FROM projects_table p WHERE p.categoryId IS NULL AND p.category IS NOT NULL")
+    List<String> findDistinctCategoriesWithoutId();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE projects_table p SET p.categoryId = :categoryId WHERE p.categoryId IS NULL AND p.category = :category")
+    int assignCategoryId(String category, Short categoryId);
 }
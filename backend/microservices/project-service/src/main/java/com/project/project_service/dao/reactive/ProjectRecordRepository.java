@@ -0,0 +1,17 @@
+package com.project.project_service.dao.reactive;
+
+import com.project.project_service.model.ProjectRecord;
+import com.project.project_service.model.ProjectStatus;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ProjectRecordRepository extends R2dbcRepository<ProjectRecord, Integer> {
+    @Query("SELECT * FROM projects_table WHERE status = " + ProjectStatus.OPEN_CODE + " ORDER BY created_at DESC")
+    Flux<ProjectRecord> findOpenProjects();
+
+    Flux<ProjectRecord> findByClientId(Integer clientId);
+    Flux<ProjectRecord> findByCategoryId(Short categoryId);
+}
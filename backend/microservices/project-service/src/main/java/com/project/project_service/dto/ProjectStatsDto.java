@@ -0,0 +1,17 @@
+package com.project.project_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectStatsDto {
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Map<String, Long>> byCategory; // category -> status -> count
+    private long reconciledAt; // epoch millis of the last DB reconciliation
+}
@@ -0,0 +1,14 @@
+package com.project.project_service.event;
+
+import com.project.project_service.dto.ProjectDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectEvent {
+    private ProjectEventType type;
+    private ProjectDto project;
+}
@@ -0,0 +1,6 @@
+package com.project.project_service.event;
+
+public enum ProjectEventType {
+    PROJECT_CREATED,
+    PROJECT_STATUS_CHANGED
+}
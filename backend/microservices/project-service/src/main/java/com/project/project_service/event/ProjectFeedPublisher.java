@@ -0,0 +1,128 @@
+package com.project.project_service.event;
+
+import com.freelancer.commons.sse.SseSubscriber;
+import com.project.project_service.dto.ProjectDto;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes project create/status-change events to freelancers subscribed through server-sent events.
+ * Publishing only queues the event on each matching subscriber's bounded outbox; a small sender pool writes
+ * them out, and subscribers that fall behind are dropped (their EventSource reconnects).
+ */
+@Component
+public class ProjectFeedPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectFeedPublisher.class);
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ThreadPoolExecutor sender;
+
+    @Value("${project.feed.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${project.feed.subscriber-buffer:64}")
+    private int subscriberBuffer;
+
+    public ProjectFeedPublisher(@Value("${project.feed.sender-threads:4}") int senderThreads,
+                                @Value("${project.feed.max-queued-subscribers:10000}") int maxQueuedSubscribers) {
+        this.sender = SseSubscriber.senderPool("project-feed-sender", senderThreads, maxQueuedSubscribers);
+    }
+
+    public SseEmitter subscribe(String category, String skill) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        SseSubscriber subscriber = new SseSubscriber(emitter, sender, subscriberBuffer, this::unsubscribe);
+        subscriptions.add(new Subscription(subscriber, normalize(category), tokenize(skill)));
+        return emitter;
+    }
+
+    public void publish(ProjectEventType type, ProjectDto project) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        ProjectEvent event = new ProjectEvent(type, project);
+        long id = eventSequence.incrementAndGet();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.matches(project)) {
+                subscription.subscriber().offer(SseEmitter.event()
+                        .id(String.valueOf(id))
+                        .name(type.name())
+                        .data(event));
+            }
+        }
+    }
+
+    /**
+     * Comment frames keep idle connections open through proxies and flush out subscribers that went away.
+     */
+    @Scheduled(fixedRateString = "${project.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscriptions.forEach(s -> s.subscriber().heartbeat());
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.forEach(s -> s.subscriber().complete());
+        sender.shutdown();
+    }
+
+    private void unsubscribe(SseSubscriber subscriber) {
+        subscriptions.removeIf(s -> s.subscriber() == subscriber);
+        if (subscriber.fellBehind()) {
+            log.debug("Dropped project feed subscriber that fell behind");
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<String> tokenize(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(skills.split(","))
+                .map(ProjectFeedPublisher::normalize)
+                .filter(s -> s != null)
+                .toList();
+    }
+
+    private record Subscription(SseSubscriber subscriber, String category, List<String> skills) {
+
+        boolean matches(ProjectDto project) {
+            if (category != null && (project.getCategory() == null
+                    || !category.equals(project.getCategory().trim().toLowerCase(Locale.ROOT)))) {
+                return false;
+            }
+            if (skills.isEmpty()) {
+                return true;
+            }
+            String text = ((project.getTitle() == null ? "" : project.getTitle()) + " "
+                    + (project.getDescription() == null ? "" : project.getDescription()) + " "
+                    + (project.getCategory() == null ? "" : project.getCategory())).toLowerCase(Locale.ROOT);
+            for (String skill : skills) {
+                if (text.contains(skill)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
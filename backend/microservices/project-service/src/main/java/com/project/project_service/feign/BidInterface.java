@@ -0,0 +1,14 @@
+package com.project.project_service.feign;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+@FeignClient("BID-SERVICE")
+public interface BidInterface {
+
+    @PutMapping("/bids/projects/reject-pending")
+    Integer rejectPendingBids(@RequestBody List<Integer> projectIds);
+}
@@ -0,0 +1,30 @@
+package com.project.project_service.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Canonical project category. Projects reference it by {@link #id}, so category browsing is an equality
+ * lookup on a small-int column instead of a case-insensitive text match.
+ */
+@Entity(name = "categories_table")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_categories_normalized_name", columnNames = "normalized_name"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Category {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Short id;
+    @Column(nullable = false)
+    private String name;
+    @Column(nullable = false)
+    private String normalizedName;
+
+    public Category(String name, String normalizedName) {
+        this.name = name;
+        this.normalizedName = normalizedName;
+    }
+}
@@ -1,9 +1,12 @@
 package com.project.project_service.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -15,6 +18,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity(name = "projects_table")
+@Table(indexes = @Index(name = "idx_projects_category_id", columnList = "category_id"))
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -29,10 +33,15 @@ public class Project {
     private Double budgetMin;
     private Double budgetMax;
     private String category;
+    private Short categoryId; // categories_table id, assigned from category on write
     private LocalDate deadline;
     private Duration duration; // e.g., in days
-    private String status; // e.g., "OPEN", "IN_PROGRESS", "COMPLETED"
+    @Column(nullable = false)
+    private ProjectStatus status; // stored as smallint, see ProjectStatusConverter
     private Integer assignedFreelancerId; // Nullable, set when a freelancer is assigned
+    // Set when the project expires or is cancelled, cleared once bid-service has rejected its pending bids
+    @Column(columnDefinition = "boolean not null default false")
+    private boolean bidsPendingRejection;
     @CreationTimestamp
     private LocalDateTime createdAt;
     @UpdateTimestamp
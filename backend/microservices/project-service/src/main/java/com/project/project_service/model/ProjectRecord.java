@@ -0,0 +1,36 @@
+package com.project.project_service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC row mapping of {@code projects_table}, used only by the reactive read path. Writes stay on {@link Project}.
+ */
+@Table("projects_table")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectRecord {
+    @Id
+    private Integer id;
+    private Integer clientId;
+    private String title;
+    private String description;
+    private Double budget;
+    private Double budgetMin;
+    private Double budgetMax;
+    private String category;
+    private Short categoryId;
+    private LocalDate deadline;
+    private Long duration; // nanoseconds, as written by Hibernate for java.time.Duration
+    private Short status; // ProjectStatus code
+    private Integer assignedFreelancerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,82 @@
+package com.project.project_service.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Project lifecycle, stored as a smallint {@link #code()}. Codes are persisted, so never reorder or reuse them.
+ */
+public enum ProjectStatus {
+    OPEN(ProjectStatus.OPEN_CODE),
+    IN_PROGRESS((short) 1),
+    COMPLETED(ProjectStatus.COMPLETED_CODE),
+    CANCELLED(ProjectStatus.CANCELLED_CODE),
+    EXPIRED(ProjectStatus.EXPIRED_CODE); // deadline passed while still OPEN
+
+    /**
+     * {@link #OPEN}'s code as a compile-time constant for native queries, which must filter on the literal for the
+     * partial indexes on open projects to apply.
+     */
+    public static final short OPEN_CODE = 0;
+    /** Codes of the terminal statuses, for native queries that select closed projects. */
+    public static final short COMPLETED_CODE = 2;
+    public static final short CANCELLED_CODE = 3;
+    public static final short EXPIRED_CODE = 4;
+
+    private final short code;
+
+    ProjectStatus(short code) {
+        this.code = code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    /**
+     * Whether a project in this status may move to {@code next}. Re-applying the current status is allowed so
+     * retried calls stay idempotent.
+     */
+    public boolean canTransitionTo(ProjectStatus next) {
+        return next == this || allowedNext().contains(next);
+    }
+
+    /**
+     * True for the statuses a project never leaves again.
+     */
+    public boolean isTerminal() {
+        return allowedNext().isEmpty();
+    }
+
+    private Set<ProjectStatus> allowedNext() {
+        return switch (this) {
+            case OPEN -> EnumSet.of(IN_PROGRESS, CANCELLED, EXPIRED);
+            case IN_PROGRESS -> EnumSet.of(COMPLETED, CANCELLED);
+            case COMPLETED, CANCELLED, EXPIRED -> EnumSet.noneOf(ProjectStatus.class);
+        };
+    }
+
+    public static ProjectStatus fromCode(short code) {
+        for (ProjectStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown project status code: " + code);
+    }
+
+    @JsonCreator
+    public static ProjectStatus parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown project status: " + value);
+        }
+    }
+}
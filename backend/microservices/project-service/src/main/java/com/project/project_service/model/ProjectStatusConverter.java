@@ -0,0 +1,18 @@
+package com.project.project_service.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class ProjectStatusConverter implements AttributeConverter<ProjectStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(ProjectStatus status) {
+        return status == null ? null : status.code();
+    }
+
+    @Override
+    public ProjectStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : ProjectStatus.fromCode(code);
+    }
+}
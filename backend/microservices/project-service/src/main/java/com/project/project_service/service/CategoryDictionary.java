@@ -0,0 +1,192 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.CategoryRepository;
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.model.Category;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory cache of {@code categories_table}: normalized name to id and id to display name. Categories are
+ * interned on write, so reads resolve a category name to its id without touching the database.
+ * <p>
+ * Category names are free text from clients, so new entries are capped in total (ids are SMALLINT) and per minute.
+ * A project whose new category is refused keeps its category text without an id: it is left out of category
+ * browsing until a later startup backfills the id within the limits.
+ * <p>
+ * Lookups of names that are not in the dictionary are remembered for a short while, so repeated searches for an
+ * unknown category do not each query the database. A category created by another instance becomes visible here
+ * once that miss expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryDictionary.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final CategoryRepository categoryRepository;
+    private final ProjectRepository projectRepository;
+
+    private final Map<String, Short> idsByName = new ConcurrentHashMap<>();
+    private final Map<Short, String> namesById = new ConcurrentHashMap<>();
+    // Normalized names that were not found, to the time the miss expires
+    private final Map<String, Long> missesUntil = new ConcurrentHashMap<>();
+
+    @Value("${project.categories.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${project.categories.max-new-per-minute:20}")
+    private int maxNewPerMinute;
+
+    @Value("${project.categories.miss-ttl-ms:30000}")
+    private long missTtlMs;
+
+    @Value("${project.categories.max-cached-misses:10000}")
+    private int maxCachedMisses;
+
+    private long windowStartMillis;
+    private int createdInWindow;
+
+    /**
+     * Loads the dictionary and assigns ids to projects written before categories were interned.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        categoryRepository.findAll().forEach(this::cache);
+        List<String> untagged = projectRepository.findDistinctCategoriesWithoutId();
+        int updated = 0;
+        for (String category : untagged) {
+            Short id = intern(category);
+            if (id != null) {
+                updated += projectRepository.assignCategoryId(category, id);
+            }
+        }
+        log.info("Loaded {} categories, backfilled category id on {} projects", namesById.size(), updated);
+    }
+
+    /**
+     * Returns the id for {@code category}, creating the dictionary entry on first use, or {@code null} if a new
+     * entry is refused by the size cap or the rate limit.
+     */
+    public Short intern(String category) {
+        String normalized = normalize(category);
+        if (normalized == null) {
+            return null;
+        }
+        Short id = idsByName.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        Category entry = categoryRepository.findByNormalizedName(normalized).orElse(null);
+        if (entry == null) {
+            if (!admitNewCategory(normalized)) {
+                return null;
+            }
+            entry = create(category, normalized);
+        }
+        cache(entry);
+        return entry.getId();
+    }
+
+    /**
+     * Id of an existing category, or {@code null} if nothing was ever filed under it.
+     */
+    public Short lookup(String category) {
+        String normalized = normalize(category);
+        if (normalized == null) {
+            return null;
+        }
+        Short id = idsByName.get(normalized);
+        if (id != null) {
+            return id;
+        }
+        long now = System.currentTimeMillis();
+        Long missUntil = missesUntil.get(normalized);
+        if (missUntil != null && missUntil > now) {
+            return null;
+        }
+        Category entry = categoryRepository.findByNormalizedName(normalized).orElse(null);
+        if (entry == null) {
+            cacheMiss(normalized, now);
+            return null;
+        }
+        cache(entry);
+        return entry.getId();
+    }
+
+    /**
+     * Id from the in-memory cache only; never queries the database.
+     */
+    public Short cachedId(String category) {
+        String normalized = normalize(category);
+        return normalized == null ? null : idsByName.get(normalized);
+    }
+
+    public String nameOf(Short id) {
+        return id == null ? null : namesById.get(id);
+    }
+
+    static String normalize(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return WHITESPACE.matcher(category.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private Category create(String category, String normalized) {
+        try {
+            return categoryRepository.saveAndFlush(new Category(category.trim(), normalized));
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently by another request or instance
+            return categoryRepository.findByNormalizedName(normalized).orElseThrow(() -> e);
+        }
+    }
+
+    private synchronized boolean admitNewCategory(String normalized) {
+        if (namesById.size() >= Math.min(maxEntries, Short.MAX_VALUE)) {
+            log.warn("Category dictionary is full ({} entries), not adding '{}'", namesById.size(), normalized);
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (now - windowStartMillis >= 60_000) {
+            windowStartMillis = now;
+            createdInWindow = 0;
+        }
+        if (createdInWindow >= maxNewPerMinute) {
+            log.warn("More than {} new categories this minute, not adding '{}'", maxNewPerMinute, normalized);
+            return false;
+        }
+        createdInWindow++;
+        return true;
+    }
+
+    private void cache(Category category) {
+        idsByName.put(category.getNormalizedName(), category.getId());
+        namesById.put(category.getId(), category.getName());
+        missesUntil.remove(category.getNormalizedName());
+    }
+
+    private void cacheMiss(String normalized, long now) {
+        // Names are free text, so keep the misses bounded: drop expired ones first, then start over if still full
+        if (missesUntil.size() >= maxCachedMisses) {
+            missesUntil.values().removeIf(until -> until <= now);
+            if (missesUntil.size() >= maxCachedMisses) {
+                missesUntil.clear();
+            }
+        }
+        missesUntil.put(normalized, now + missTtlMs);
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.ProjectArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Moves COMPLETED, CANCELLED and EXPIRED projects older than the retention window from {@code projects_table}
+ * into {@code projects_archive}. Batches are small and separated by a pause so the move never competes
+ * with live traffic for locks or I/O.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectArchiver.class);
+
+    private final ProjectArchiveRepository projectArchiveRepository;
+    private final ProjectStatsService projectStatsService;
+
+    @Value("${project.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${project.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${project.archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${project.archive.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${project.archive.max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    private volatile boolean archiveMissingLogged;
+
+    @Scheduled(initialDelayString = "${project.archive.initial-delay-ms:120000}",
+            fixedDelayString = "${project.archive.interval-ms:3600000}")
+    public void archiveClosedProjects() {
+        if (!enabled) {
+            return;
+        }
+        if (!projectArchiveRepository.archiveExists()) {
+            if (!archiveMissingLogged) {
+                archiveMissingLogged = true;
+                log.warn("projects_archive does not exist; run sql-scripts/04_project_service.sql to enable archiving");
+            }
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        for (LocalDate month : projectArchiveRepository.pendingMonths(cutoff)) {
+            projectArchiveRepository.ensurePartition(month);
+        }
+        int archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = projectArchiveRepository.moveBatch(cutoff, batchSize);
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} closed projects older than {} days", archived, retentionDays);
+            projectStatsService.reconcile();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.event.ProjectEventType;
+import com.project.project_service.event.ProjectFeedPublisher;
+import com.project.project_service.feign.BidInterface;
+import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Closes open projects whose deadline has passed. Each run expires overdue projects in deadline order, in
+ * bounded batches, and publishes the status changes; then it asks bid-service to reject the pending bids of every
+ * project flagged for it. Expiry and cancellation set the flag in the same statement as the status change, and it
+ * is cleared only after bid-service has answered, so failed calls are retried by later runs even across restarts.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectExpiryScheduler.class);
+
+    private final ProjectRepository projectRepository;
+    private final BidInterface bidInterface;
+    private final ProjectFeedPublisher projectFeedPublisher;
+    private final ProjectStatsService projectStatsService;
+    private final ProjectService projectService;
+
+    @Value("${project.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${project.expiry.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(initialDelayString = "${project.expiry.initial-delay-ms:30000}",
+            fixedDelayString = "${project.expiry.interval-ms:60000}")
+    public void expireOverdueProjects() {
+        LocalDate today = LocalDate.now();
+        int expired = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Integer> ids = projectRepository.expireOverdue(today, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            expired += ids.size();
+            for (Project project : projectRepository.findAllById(ids)) {
+                projectStatsService.onStatusChanged(project.getCategory(),
+                        ProjectStatus.OPEN.name(), ProjectStatus.EXPIRED.name());
+                projectFeedPublisher.publish(ProjectEventType.PROJECT_STATUS_CHANGED, projectService.toDto(project));
+            }
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        if (expired > 0) {
+            log.info("Expired {} projects past their deadline", expired);
+        }
+        rejectPendingBids();
+    }
+
+    private void rejectPendingBids() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Integer> ids = projectRepository.findIdsWithBidsPendingRejection(batchSize);
+            if (ids.isEmpty()) {
+                return;
+            }
+            try {
+                Integer rejected = bidInterface.rejectPendingBids(ids);
+                log.debug("Rejected {} pending bids for {} closed projects", rejected, ids.size());
+            } catch (Exception e) {
+                // The flags stay set; the next run picks the same projects up again
+                log.warn("Could not reject bids for {} closed projects, will retry: {}", ids.size(), e.getMessage());
+                return;
+            }
+            projectRepository.clearBidsPendingRejection(ids);
+            if (ids.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.model.Project;
+
+/**
+ * Entity to DTO mapping for projects, free of Spring dependencies so the benchmarks module can compile it directly.
+ */
+public final class ProjectMapper {
+
+    private ProjectMapper() {
+    }
+
+    public static ProjectDto toDto(Project project) {
+        ProjectDto dto = new ProjectDto();
+        if (project == null) return dto;
+        dto.setId(project.getId());
+        dto.setTitle(project.getTitle());
+        dto.setDescription(project.getDescription());
+        dto.setClientId(project.getClientId());
+        dto.setBudget(project.getBudget());
+        dto.setBudgetMin(project.getBudgetMin());
+        dto.setBudgetMax(project.getBudgetMax());
+        dto.setCategory(project.getCategory());
+        dto.setDeadline(project.getDeadline());
+        dto.setDuration(project.getDuration());
+        dto.setStatus(project.getStatus() != null ? project.getStatus().name() : null);
+        dto.setAssignedFreelancerId(project.getAssignedFreelancerId());
+        dto.setCreatedAt(project.getCreatedAt());
+        dto.setUpdatedAt(project.getUpdatedAt());
+        return dto;
+    }
+}
@@ -1,11 +1,18 @@
 package com.project.project_service.service;
 
+import com.project.project_service.dao.ProjectArchiveRepository;
 import com.project.project_service.dao.ProjectRepository;
 import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.event.ProjectEventType;
+import com.project.project_service.event.ProjectFeedPublisher;
 import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -15,13 +22,23 @@ import java.util.stream.Collectors;
 public class ProjectService {
 
     private final ProjectRepository projectRepository;
+    private final ProjectFeedPublisher projectFeedPublisher;
+    private final ProjectStatsService projectStatsService;
+    private final CategoryDictionary categoryDictionary;
+    private final ProjectArchiveRepository projectArchiveRepository;
 
     public ProjectDto createProject(Project project) {
         if (project.getStatus() == null) {
-            project.setStatus("OPEN");
+            project.setStatus(ProjectStatus.OPEN);
+        } else if (project.getStatus() != ProjectStatus.OPEN) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "New projects must be OPEN");
         }
+        project.setCategoryId(categoryDictionary.intern(project.getCategory()));
         Project savedProject = projectRepository.save(project);
-        return mapToDto(savedProject);
+        projectStatsService.onProjectCreated(savedProject.getCategory(), savedProject.getStatus().name());
+        ProjectDto dto = mapToDto(savedProject);
+        projectFeedPublisher.publish(ProjectEventType.PROJECT_CREATED, dto);
+        return dto;
     }
 
     public List<ProjectDto> getAllProjects() {
@@ -31,61 +48,88 @@ public class ProjectService {
     }
 
     public List<ProjectDto> getOpenProjects() {
-        return projectRepository.findByStatus("OPEN").stream()
+        return projectRepository.findOpenProjects().stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
-    public List<ProjectDto> getProjectsByClient(Integer clientId) {
-        return projectRepository.findByClientId(clientId).stream()
+    /**
+     * Projects of a client; archived (long-closed) projects are only read when {@code includeArchived} is set.
+     */
+    public List<ProjectDto> getProjectsByClient(Integer clientId, boolean includeArchived) {
+        List<ProjectDto> projects = projectRepository.findByClientId(clientId).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
+        if (includeArchived) {
+            projectArchiveRepository.findByClientId(clientId).forEach(p -> projects.add(mapToDto(p)));
+        }
+        return projects;
     }
 
     public List<ProjectDto> getProjectsByCategory(String category) {
-        return projectRepository.findByCategoryIgnoreCase(category).stream()
+        Short categoryId = categoryDictionary.lookup(category);
+        if (categoryId == null) {
+            return List.of();
+        }
+        return projectRepository.findByCategoryId(categoryId).stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Moves a project along the {@link ProjectStatus} state machine. Unknown statuses are rejected with 400 and
+     * illegal or concurrently lost transitions with 409, before anything is written.
+     */
     public void updateProjectStatus(Integer projectId, String status, Integer assignedFreelancerId) {
+        ProjectStatus next;
+        try {
+            next = ProjectStatus.parse(status);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        if (next == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Status is required");
+        }
         Optional<Project> optProject = projectRepository.findById(projectId);
         if (optProject.isPresent()) {
             Project project = optProject.get();
-            project.setStatus(status);
+            ProjectStatus previousStatus = project.getStatus();
+            if (!previousStatus.canTransitionTo(next)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Project " + projectId + " cannot move from " + previousStatus + " to " + next);
+            }
+            boolean rejectBids = next == ProjectStatus.CANCELLED && previousStatus != ProjectStatus.CANCELLED;
+            if (projectRepository.transitionStatus(projectId, previousStatus, next, assignedFreelancerId, rejectBids) == 0) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Project " + projectId + " was modified concurrently");
+            }
+            // The bulk update bypasses the loaded entity; mirror it so the event carries the new state
+            project.setStatus(next);
             if (assignedFreelancerId != null) {
                 project.setAssignedFreelancerId(assignedFreelancerId);
             }
-            projectRepository.save(project);
+            project.setBidsPendingRejection(project.isBidsPendingRejection() || rejectBids);
+            project.setUpdatedAt(LocalDateTime.now());
+            projectStatsService.onStatusChanged(project.getCategory(), previousStatus.name(), next.name());
+            projectFeedPublisher.publish(ProjectEventType.PROJECT_STATUS_CHANGED, mapToDto(project));
         } else {
             throw new RuntimeException("Project not found with id: " + projectId);
         }
     }
 
-    public ProjectDto getProjectById(Integer id) {
+    public ProjectDto getProjectById(Integer id, boolean includeArchived) {
         Optional<Project> project = projectRepository.findById(id);
-        ProjectDto projectDto = mapToDto(project.orElse(null));
-        System.out.println(projectDto);
-        return projectDto;
+        if (project.isEmpty() && includeArchived) {
+            project = projectArchiveRepository.findById(id);
+        }
+        return mapToDto(project.orElse(null));
+    }
+
+    public ProjectDto toDto(Project project) {
+        return mapToDto(project);
     }
 
     private ProjectDto mapToDto(Project project) {
-        ProjectDto dto = new ProjectDto();
-        if (project == null) return dto;
-        dto.setId(project.getId());
-        dto.setTitle(project.getTitle());
-        dto.setDescription(project.getDescription());
-        dto.setClientId(project.getClientId());
-        dto.setBudget(project.getBudget());
-        dto.setBudgetMin(project.getBudgetMin());
-        dto.setBudgetMax(project.getBudgetMax());
-        dto.setCategory(project.getCategory());
-        dto.setDeadline(project.getDeadline());
-        dto.setDuration(project.getDuration());
-        dto.setStatus(project.getStatus());
-        dto.setAssignedFreelancerId(project.getAssignedFreelancerId());
-        dto.setCreatedAt(project.getCreatedAt());
-        dto.setUpdatedAt(project.getUpdatedAt());
-        return dto;
+        return ProjectMapper.toDto(project);
     }
 }
@@ -0,0 +1,183 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.dto.ProjectStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory category x status project counters. Writes on this instance adjust them directly; a periodic
+ * group-by query replaces them wholesale so drift (other instances, failed writes) does not accumulate.
+ * Reads are served from a cached immutable snapshot that is rebuilt only after a change.
+ * <p>
+ * Every change bumps a version, and a snapshot is only served for the version it was built from, so a change that
+ * races with a rebuild cannot leave a stale snapshot cached. Changes made while the reconcile query runs are
+ * journaled and replayed onto its result before the swap; a write that committed just before the query started
+ * may be counted twice until the next reconcile.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStatsService.class);
+    private static final String UNCATEGORIZED = "uncategorized";
+    private static final String UNKNOWN_STATUS = "UNKNOWN";
+
+    private final ProjectRepository projectRepository;
+
+    // Deltas take the read lock, so they run concurrently; only the swap after a reconcile takes the write lock
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Map<String, Map<String, LongAdder>> counters = new ConcurrentHashMap<>();
+    // Non-null while a reconcile query runs; guarded by swapLock
+    private Queue<Delta> pendingDeltas;
+    private volatile Snapshot snapshot;
+    private volatile long reconciledAt;
+
+    public void onProjectCreated(String category, String status) {
+        apply(category, status, 1);
+        version.incrementAndGet();
+    }
+
+    public void onStatusChanged(String category, String previousStatus, String status) {
+        if (Objects.equals(statusKey(previousStatus), statusKey(status))) {
+            return;
+        }
+        apply(category, previousStatus, -1);
+        apply(category, status, 1);
+        version.incrementAndGet();
+    }
+
+    public ProjectStatsDto getStats() {
+        long current = version.get();
+        Snapshot cached = snapshot;
+        if (cached != null && cached.version() == current) {
+            return cached.stats();
+        }
+        ProjectStatsDto stats = buildSnapshot();
+        snapshot = new Snapshot(current, stats);
+        return stats;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${project.stats.reconcile-ms:300000}",
+            fixedDelayString = "${project.stats.reconcile-ms:300000}")
+    public synchronized void reconcile() {
+        Queue<Delta> pending = new ConcurrentLinkedQueue<>();
+        setPendingDeltas(pending);
+        Map<String, Map<String, LongAdder>> fresh = new ConcurrentHashMap<>();
+        List<Object[]> rows;
+        try {
+            rows = projectRepository.countByCategoryAndStatus();
+        } catch (RuntimeException e) {
+            setPendingDeltas(null);
+            throw e;
+        }
+        for (Object[] row : rows) {
+            LongAdder adder = new LongAdder();
+            adder.add(((Number) row[2]).longValue());
+            fresh.computeIfAbsent(categoryKey((String) row[0]), k -> new ConcurrentHashMap<>())
+                    .merge(statusKey(row[1] != null ? row[1].toString() : null), adder, (a, b) -> {
+                        a.add(b.sum());
+                        return a;
+                    });
+        }
+        swapLock.writeLock().lock();
+        try {
+            for (Delta delta : pending) {
+                counter(fresh, delta.category(), delta.status()).add(delta.amount());
+            }
+            counters = fresh;
+            pendingDeltas = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        reconciledAt = System.currentTimeMillis();
+        version.incrementAndGet();
+        log.info("Reconciled project counters from {} category/status groups", rows.size());
+    }
+
+    private void apply(String category, String status, long amount) {
+        swapLock.readLock().lock();
+        try {
+            counter(counters, category, status).add(amount);
+            if (pendingDeltas != null) {
+                pendingDeltas.add(new Delta(category, status, amount));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void setPendingDeltas(Queue<Delta> pending) {
+        swapLock.writeLock().lock();
+        try {
+            pendingDeltas = pending;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static LongAdder counter(Map<String, Map<String, LongAdder>> counters, String category, String status) {
+        return counters.computeIfAbsent(categoryKey(category), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(statusKey(status), k -> new LongAdder());
+    }
+
+    private ProjectStatsDto buildSnapshot() {
+        Map<String, Map<String, Long>> byCategory = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<String, Map<String, LongAdder>> category : counters.entrySet()) {
+            Map<String, Long> statuses = new TreeMap<>();
+            for (Map.Entry<String, LongAdder> status : category.getValue().entrySet()) {
+                long count = status.getValue().sum();
+                if (count <= 0) {
+                    continue;
+                }
+                statuses.put(status.getKey(), count);
+                byStatus.merge(status.getKey(), count, Long::sum);
+                total += count;
+            }
+            if (!statuses.isEmpty()) {
+                byCategory.put(category.getKey(), Collections.unmodifiableMap(statuses));
+            }
+        }
+        return new ProjectStatsDto(total, Collections.unmodifiableMap(byStatus),
+                Collections.unmodifiableMap(byCategory), reconciledAt);
+    }
+
+    private static String categoryKey(String category) {
+        String normalized = CategoryDictionary.normalize(category);
+        return normalized == null ? UNCATEGORIZED : normalized;
+    }
+
+    private static String statusKey(String status) {
+        return status == null || status.isBlank() ? UNKNOWN_STATUS : status.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Delta(String category, String status, long amount) {
+    }
+
+    private record Snapshot(long version, ProjectStatsDto stats) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.reactive.ProjectRecordRepository;
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.model.ProjectRecord;
+import com.project.project_service.model.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of the read methods in {@link ProjectService}, backed by R2DBC. Results are streamed
+ * row by row, so a slow consumer throttles the database cursor instead of buffering the whole list.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveProjectService {
+
+    private final ProjectRecordRepository projectRecordRepository;
+    private final CategoryDictionary categoryDictionary;
+
+    public Mono<ProjectDto> getProjectById(Integer id) {
+        return projectRecordRepository.findById(id)
+                .map(this::mapToDto)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Project not found with id: " + id)));
+    }
+
+    public Flux<ProjectDto> getOpenProjects() {
+        return projectRecordRepository.findOpenProjects().map(this::mapToDto);
+    }
+
+    public Flux<ProjectDto> getProjectsByClient(Integer clientId) {
+        return projectRecordRepository.findByClientId(clientId).map(this::mapToDto);
+    }
+
+    public Flux<ProjectDto> getProjectsByCategory(String category) {
+        Short categoryId = categoryDictionary.cachedId(category);
+        if (categoryId != null) {
+            return projectRecordRepository.findByCategoryId(categoryId).map(this::mapToDto);
+        }
+        // Cache miss: the dictionary lookup is blocking JPA, so keep it off the caller's thread
+        return Mono.fromCallable(() -> categoryDictionary.lookup(category))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(projectRecordRepository::findByCategoryId)
+                .map(this::mapToDto);
+    }
+
+    private ProjectDto mapToDto(ProjectRecord project) {
+        ProjectDto dto = new ProjectDto();
+        dto.setId(project.getId());
+        dto.setTitle(project.getTitle());
+        dto.setDescription(project.getDescription());
+        dto.setClientId(project.getClientId());
+        dto.setBudget(project.getBudget());
+        dto.setBudgetMin(project.getBudgetMin());
+        dto.setBudgetMax(project.getBudgetMax());
+        dto.setCategory(project.getCategory());
+        dto.setDeadline(project.getDeadline());
+        dto.setDuration(project.getDuration() != null ? Duration.ofNanos(project.getDuration()) : null);
+        dto.setStatus(project.getStatus() != null ? ProjectStatus.fromCode(project.getStatus()).name() : null);
+        dto.setAssignedFreelancerId(project.getAssignedFreelancerId());
+        dto.setCreatedAt(project.getCreatedAt());
+        dto.setUpdatedAt(project.getUpdatedAt());
+        return dto;
+    }
+}
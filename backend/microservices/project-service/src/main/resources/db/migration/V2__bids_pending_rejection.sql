@@ -0,0 +1,4 @@
+-- Expired or cancelled projects whose pending bids bid-service has not rejected yet. Set together with the
+-- status change and cleared by the expiry scheduler once bid-service has answered.
+ALTER TABLE projects_table ADD COLUMN IF NOT EXISTS bids_pending_rejection BOOLEAN NOT NULL DEFAULT FALSE;
+CREATE INDEX IF NOT EXISTS idx_projects_bids_pending_rejection ON projects_table(id) WHERE bids_pending_rejection;
@@ -0,0 +1,40 @@
+package com.project.project_service.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the reason {@link PersistenceConfig} declares a DataSource: if Boot ever stops backing off, the
+ * declaration can go.
+ */
+class PersistenceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(R2dbcAutoConfiguration.class, DataSourceAutoConfiguration.class))
+            .withPropertyValues("spring.datasource.url=jdbc:postgresql://localhost:5432/project_service",
+                    "spring.r2dbc.url=r2dbc:postgresql://localhost:5432/project_service");
+
+    @Test
+    void bootConfiguresNoDataSourceOnceAnR2dbcConnectionFactoryExists() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(ConnectionFactory.class);
+            assertThat(context).doesNotHaveBean(DataSource.class);
+        });
+    }
+
+    @Test
+    void bootConfiguresTheDataSourceWithoutR2dbc() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class))
+                .withPropertyValues("spring.datasource.url=jdbc:postgresql://localhost:5432/project_service")
+                .run(context -> assertThat(context).hasSingleBean(DataSource.class));
+    }
+}
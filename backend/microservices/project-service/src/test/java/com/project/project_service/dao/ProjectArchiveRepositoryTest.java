@@ -0,0 +1,42 @@
+package com.project.project_service.dao;
+
+import com.project.project_service.model.ProjectStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectArchiveRepositoryTest {
+
+    @Test
+    void closedStatusesAreExactlyTheTerminalOnes() {
+        Set<ProjectStatus> closed = Arrays.stream(ProjectArchiveRepository.CLOSED_STATUSES.split(","))
+                .map(code -> ProjectStatus.fromCode(Short.parseShort(code.trim())))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ProjectStatus.class)));
+        Set<ProjectStatus> terminal = Arrays.stream(ProjectStatus.values())
+                .filter(ProjectStatus::isTerminal)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(ProjectStatus.class)));
+
+        assertEquals(terminal, closed);
+    }
+
+    @Test
+    void archiverIndexUsesTheSamePredicate() throws IOException {
+        try (InputStream migration = getClass().getResourceAsStream("/db/migration/V1__baseline.sql")) {
+            assertNotNull(migration);
+            String sql = new String(migration.readAllBytes(), StandardCharsets.UTF_8);
+
+            assertTrue(sql.contains("idx_projects_closed_updated ON projects_table(updated_at) WHERE status IN ("
+                    + ProjectArchiveRepository.CLOSED_STATUSES + ");"));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.project_service.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProjectStatusTest {
+
+    private static final Map<ProjectStatus, Set<ProjectStatus>> ALLOWED = Map.of(
+            ProjectStatus.OPEN, EnumSet.of(ProjectStatus.OPEN, ProjectStatus.IN_PROGRESS, ProjectStatus.CANCELLED, ProjectStatus.EXPIRED),
+            ProjectStatus.IN_PROGRESS, EnumSet.of(ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED, ProjectStatus.CANCELLED),
+            ProjectStatus.COMPLETED, EnumSet.of(ProjectStatus.COMPLETED),
+            ProjectStatus.CANCELLED, EnumSet.of(ProjectStatus.CANCELLED),
+            ProjectStatus.EXPIRED, EnumSet.of(ProjectStatus.EXPIRED));
+
+    @Test
+    void transitionMatrix() {
+        for (ProjectStatus from : ProjectStatus.values()) {
+            for (ProjectStatus to : ProjectStatus.values()) {
+                assertEquals(ALLOWED.get(from).contains(to), from.canTransitionTo(to), from + " -> " + to);
+            }
+        }
+    }
+
+    @Test
+    void codesRoundTrip() {
+        for (ProjectStatus status : ProjectStatus.values()) {
+            assertEquals(status, ProjectStatus.fromCode(status.code()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ProjectStatus.fromCode((short) 99));
+    }
+
+    @Test
+    void parseIsLenientAboutCaseAndWhitespace() {
+        assertEquals(ProjectStatus.IN_PROGRESS, ProjectStatus.parse(" in_progress "));
+        assertNull(ProjectStatus.parse(" "));
+        assertThrows(IllegalArgumentException.class, () -> ProjectStatus.parse("ASSIGNED"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.CategoryRepository;
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.model.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryDictionaryTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private CategoryDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new CategoryDictionary(categoryRepository, projectRepository);
+        ReflectionTestUtils.setField(dictionary, "maxEntries", 2000);
+        ReflectionTestUtils.setField(dictionary, "maxNewPerMinute", 20);
+        ReflectionTestUtils.setField(dictionary, "missTtlMs", 60_000L);
+        ReflectionTestUtils.setField(dictionary, "maxCachedMisses", 100);
+    }
+
+    @Test
+    void repeatedLookupsOfAnUnknownCategoryQueryOnce() {
+        when(categoryRepository.findByNormalizedName("quantum basket weaving")).thenReturn(Optional.empty());
+
+        assertNull(dictionary.lookup("Quantum Basket Weaving"));
+        assertNull(dictionary.lookup("quantum  basket weaving"));
+        assertNull(dictionary.lookup("QUANTUM BASKET WEAVING"));
+
+        verify(categoryRepository, times(1)).findByNormalizedName("quantum basket weaving");
+    }
+
+    @Test
+    void expiredMissIsLookedUpAgain() {
+        ReflectionTestUtils.setField(dictionary, "missTtlMs", 0L);
+        when(categoryRepository.findByNormalizedName("web")).thenReturn(Optional.empty());
+
+        dictionary.lookup("Web");
+        dictionary.lookup("Web");
+
+        verify(categoryRepository, times(2)).findByNormalizedName("web");
+    }
+
+    @Test
+    void internedCategoryReplacesItsMiss() {
+        when(categoryRepository.findByNormalizedName("web")).thenReturn(Optional.empty());
+        when(categoryRepository.saveAndFlush(any(Category.class))).thenReturn(new Category((short) 3, "Web", "web"));
+
+        assertNull(dictionary.lookup("Web"));
+        assertEquals((short) 3, dictionary.intern("Web"));
+
+        assertEquals((short) 3, dictionary.lookup("web"));
+        // Once by the first lookup, once by intern; the second lookup is answered from memory
+        verify(categoryRepository, times(2)).findByNormalizedName("web");
+    }
+
+    @Test
+    void missesStayBounded() {
+        ReflectionTestUtils.setField(dictionary, "maxCachedMisses", 2);
+        when(categoryRepository.findByNormalizedName(any())).thenReturn(Optional.empty());
+
+        dictionary.lookup("a");
+        dictionary.lookup("b");
+        dictionary.lookup("c");
+        dictionary.lookup("c");
+        dictionary.lookup("a");
+
+        // "a" was dropped to make room for "c", which is still remembered
+        verify(categoryRepository, times(2)).findByNormalizedName("a");
+        verify(categoryRepository, times(1)).findByNormalizedName("c");
+    }
+}
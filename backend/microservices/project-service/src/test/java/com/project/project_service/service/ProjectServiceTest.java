@@ -0,0 +1,114 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.ProjectArchiveRepository;
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.dto.ProjectDto;
+import com.project.project_service.event.ProjectEventType;
+import com.project.project_service.event.ProjectFeedPublisher;
+import com.project.project_service.model.Project;
+import com.project.project_service.model.ProjectStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ProjectFeedPublisher projectFeedPublisher;
+    @Mock
+    private ProjectStatsService projectStatsService;
+    @Mock
+    private CategoryDictionary categoryDictionary;
+    @Mock
+    private ProjectArchiveRepository projectArchiveRepository;
+    @InjectMocks
+    private ProjectService projectService;
+
+    @Test
+    void statusChangeEventCarriesTheNewStatusAndFreelancer() {
+        when(projectRepository.findById(7)).thenReturn(Optional.of(project(ProjectStatus.OPEN)));
+        when(projectRepository.transitionStatus(7, ProjectStatus.OPEN, ProjectStatus.IN_PROGRESS, 42, false)).thenReturn(1);
+
+        projectService.updateProjectStatus(7, "in_progress", 42);
+
+        ArgumentCaptor<ProjectDto> event = ArgumentCaptor.forClass(ProjectDto.class);
+        verify(projectFeedPublisher).publish(eq(ProjectEventType.PROJECT_STATUS_CHANGED), event.capture());
+        assertEquals("IN_PROGRESS", event.getValue().getStatus());
+        assertEquals(42, event.getValue().getAssignedFreelancerId());
+        verify(projectStatsService).onStatusChanged("Design", "OPEN", "IN_PROGRESS");
+    }
+
+    @Test
+    void statusChangeWithoutFreelancerKeepsTheAssignedOne() {
+        Project project = project(ProjectStatus.IN_PROGRESS);
+        project.setAssignedFreelancerId(42);
+        when(projectRepository.findById(7)).thenReturn(Optional.of(project));
+        when(projectRepository.transitionStatus(7, ProjectStatus.IN_PROGRESS, ProjectStatus.COMPLETED, null, false)).thenReturn(1);
+
+        projectService.updateProjectStatus(7, "COMPLETED", null);
+
+        ArgumentCaptor<ProjectDto> event = ArgumentCaptor.forClass(ProjectDto.class);
+        verify(projectFeedPublisher).publish(eq(ProjectEventType.PROJECT_STATUS_CHANGED), event.capture());
+        assertEquals("COMPLETED", event.getValue().getStatus());
+        assertEquals(42, event.getValue().getAssignedFreelancerId());
+    }
+
+    @Test
+    void illegalTransitionIsRejectedBeforeAnyWrite() {
+        when(projectRepository.findById(7)).thenReturn(Optional.of(project(ProjectStatus.COMPLETED)));
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> projectService.updateProjectStatus(7, "OPEN", null));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        verify(projectRepository, never()).transitionStatus(any(), any(), any(), any(), anyBoolean());
+        verify(projectFeedPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    void lostRaceIsAConflictWithoutAnEvent() {
+        when(projectRepository.findById(7)).thenReturn(Optional.of(project(ProjectStatus.OPEN)));
+        when(projectRepository.transitionStatus(7, ProjectStatus.OPEN, ProjectStatus.CANCELLED, null, true)).thenReturn(0);
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> projectService.updateProjectStatus(7, "CANCELLED", null));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        verify(projectFeedPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    void unknownStatusIsABadRequest() {
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> projectService.updateProjectStatus(7, "ASSIGNED", null));
+
+        assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+    }
+
+    private static Project project(ProjectStatus status) {
+        Project project = new Project();
+        project.setId(7);
+        project.setCategory("Design");
+        project.setStatus(status);
+        return project;
+    }
+}
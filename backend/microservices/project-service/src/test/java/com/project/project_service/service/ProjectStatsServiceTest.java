@@ -0,0 +1,124 @@
+package com.project.project_service.service;
+
+import com.project.project_service.dao.ProjectRepository;
+import com.project.project_service.dto.ProjectStatsDto;
+import com.project.project_service.model.ProjectStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatsServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Test
+    void deltasDuringTheReconcileQueryAreReplayedOntoItsResult() {
+        ProjectStatsService stats = new ProjectStatsService(projectRepository);
+        when(projectRepository.countByCategoryAndStatus()).thenAnswer(invocation -> {
+            // Committed after the query's snapshot, so missing from the rows it returns
+            stats.onProjectCreated("Web", "OPEN");
+            stats.onStatusChanged("Web", "OPEN", "CANCELLED");
+            return rows(new Object[] {"Web", ProjectStatus.OPEN, 5L});
+        });
+
+        stats.reconcile();
+
+        ProjectStatsDto result = stats.getStats();
+        assertEquals(5L, result.getByCategory().get("web").get("OPEN"));
+        assertEquals(1L, result.getByCategory().get("web").get("CANCELLED"));
+        assertEquals(6L, result.getTotal());
+    }
+
+    @Test
+    void concurrentWritersDuringAReconcileConverge() throws Exception {
+        int writers = 8;
+        int createsPerWriter = 500;
+        ProjectStatsService stats = new ProjectStatsService(projectRepository);
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> running = new ArrayList<>();
+        try {
+            for (int w = 0; w < writers; w++) {
+                running.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < createsPerWriter; i++) {
+                        stats.onProjectCreated("Design", "OPEN");
+                        stats.getStats();
+                    }
+                    return null;
+                }));
+            }
+            when(projectRepository.countByCategoryAndStatus()).thenAnswer(invocation -> {
+                start.countDown();
+                for (Future<?> writer : running) {
+                    writer.get(10, TimeUnit.SECONDS);
+                }
+                return rows(new Object[] {"Design", ProjectStatus.OPEN, 100L});
+            });
+
+            stats.reconcile();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long expected = 100L + (long) writers * createsPerWriter;
+        assertEquals(expected, stats.getStats().getByCategory().get("design").get("OPEN"));
+        assertEquals(expected, stats.getStats().getTotal());
+    }
+
+    @Test
+    void snapshotIsReusedUntilTheNextChange() {
+        ProjectStatsService stats = new ProjectStatsService(projectRepository);
+        stats.onProjectCreated("Web", "OPEN");
+
+        ProjectStatsDto first = stats.getStats();
+        assertSame(first, stats.getStats());
+
+        stats.onStatusChanged("Web", "OPEN", "IN_PROGRESS");
+        ProjectStatsDto second = stats.getStats();
+        assertNotSame(first, second);
+        assertNull(second.getByCategory().get("web").get("OPEN"));
+        assertEquals(1L, second.getByCategory().get("web").get("IN_PROGRESS"));
+    }
+
+    @Test
+    void failedReconcileStopsJournalingDeltas() {
+        ProjectStatsService stats = new ProjectStatsService(projectRepository);
+        when(projectRepository.countByCategoryAndStatus())
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(rows(new Object[] {"Web", ProjectStatus.OPEN, 3L}));
+
+        assertThrows(IllegalStateException.class, stats::reconcile);
+        // Counted by the database by the time the next reconcile runs, so it must not be replayed on top
+        stats.onProjectCreated("Web", "OPEN");
+        assertEquals(1L, stats.getStats().getTotal());
+
+        stats.reconcile();
+
+        assertEquals(3L, stats.getStats().getByCategory().get("web").get("OPEN"));
+        assertTrue(stats.getStats().getReconciledAt() > 0);
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+}
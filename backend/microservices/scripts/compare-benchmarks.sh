@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Compares two JMH JSON reports (from run-benchmarks.sh) benchmark by benchmark:
+#
+#   ./compare-benchmarks.sh ../benchmarks/results/<base>.json ../benchmarks/results/<head>.json
+#
+# Scores are average time per operation, so a positive change is a regression. Requires `jq`.
+set -euo pipefail
+
+BASE="${1:?usage: $0 <base.json> <head.json>}"
+HEAD="${2:?usage: $0 <base.json> <head.json>}"
+
+printf 'benchmark\tbase\thead\tunit\tchange\n'
+jq -r -n --slurpfile base "${BASE}" --slurpfile head "${HEAD}" '
+  def key: .benchmark + ((.params // {}) | to_entries | map("[" + .key + "=" + .value + "]") | join(""));
+  ($base[0] | map({(key): .primaryMetric}) | add) as $b
+  | $head[0][]
+  | key as $k
+  | select($b[$k] != null)
+  | [$k,
+     ($b[$k].score | . * 1000 | round / 1000),
+     (.primaryMetric.score | . * 1000 | round / 1000),
+     .primaryMetric.scoreUnit,
+     (((.primaryMetric.score - $b[$k].score) / $b[$k].score * 100) | . * 10 | round / 10 | tostring + "%")]
+  | @tsv'
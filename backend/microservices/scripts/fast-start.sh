@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Starts a module from its fast-start build (mvn -Pfast-start package): the extracted jar in
+# target/fast-start with the AppCDS archive, AOT-processed bean definitions and the fast-start
+# profile (lazy beans, Flyway migrations, ddl-auto: none). Extra arguments go to the application.
+#
+#   ./fast-start.sh project-service
+#   ./fast-start.sh api-gateway --server.port=9765
+#
+# AOT=false runs the same build without the AOT bean definitions (service-registry never uses them).
+set -euo pipefail
+
+MODULE="${1:?usage: $0 <module> [args...]}"
+shift
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+DIR="${ROOT}/${MODULE}/target/fast-start"
+JAR="${DIR}/${MODULE}-0.0.1-SNAPSHOT.jar"
+
+if [[ ! -f "${JAR}" || ! -f "${DIR}/application.jsa" ]]; then
+  echo "No fast-start build for ${MODULE}; run 'mvn -Pfast-start package' in ${ROOT}/${MODULE}" >&2
+  exit 1
+fi
+
+AOT="${AOT:-true}"
+if [[ "${MODULE}" == "service-registry" ]]; then
+  AOT=false
+fi
+
+cd "${DIR}"
+exec java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled="${AOT}" ${JAVA_OPTS:-} \
+  -jar "${JAR}" --spring.profiles.active=fast-start "$@"
@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+# Measures cross-service throughput on an endpoint that fans out through Feign
+# (client-service -> project-service). Run once per Feign client configuration:
+#
+#   SPRING_CLOUD_OPENFEIGN_HTTPCLIENT_HC5_ENABLED=false  (restart client-service) ./feign-rps-benchmark.sh urlconnection
+#   SPRING_CLOUD_OPENFEIGN_HTTPCLIENT_HC5_ENABLED=true   (restart client-service) ./feign-rps-benchmark.sh hc5
+#   SPRING_CLOUD_OPENFEIGN_HTTPCLIENT_HC5_ENABLED=false SPRING_CLOUD_OPENFEIGN_HTTP2CLIENT_ENABLED=true \
+#                                                        (restart client-service) ./feign-rps-benchmark.sh http2
+#
+# Requires `hey` (https://github.com/rakyll/hey). Results are appended to feign-rps-results.txt.
+# No runs have been recorded yet, so the RPS difference between the three clients is still unmeasured.
+set -euo pipefail
+
+LABEL="${1:?usage: $0 <label>}"
+TARGET="${TARGET:-http://localhost:8082/clients/projects/${USER_ID:-1}}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-64}"
+RESULTS="$(dirname "$0")/feign-rps-results.txt"
+
+echo "Warming up ${TARGET}"
+hey -z 10s -c "${CONCURRENCY}" "${TARGET}" > /dev/null
+
+echo "Measuring ${LABEL} for ${DURATION} at concurrency ${CONCURRENCY}"
+SUMMARY="$(hey -z "${DURATION}" -c "${CONCURRENCY}" "${TARGET}")"
+echo "${SUMMARY}"
+
+{
+  echo "== ${LABEL} $(date -u +%Y-%m-%dT%H:%M:%SZ) c=${CONCURRENCY} d=${DURATION}"
+  echo "${SUMMARY}" | grep -E "Requests/sec|Average|99% in|\[[0-9]{3}\]"
+} >> "${RESULTS}"
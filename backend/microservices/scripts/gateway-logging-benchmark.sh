@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Compares gateway latency with synchronous console logging against the async JSON ring-buffer
+# pipeline. Every request writes a log line (LOG_SAMPLE_RATE=1) so the appender cost lands on the
+# Netty event loop. Restart api-gateway between runs, with stdout going to a terminal or file as
+# it would in production:
+#
+#   SPRING_PROFILES_ACTIVE=plain-logs LOG_SAMPLE_RATE=1 (restart api-gateway) ./gateway-logging-benchmark.sh sync-console
+#   LOG_SAMPLE_RATE=1                                    (restart api-gateway) ./gateway-logging-benchmark.sh async-json
+#
+# TOKEN must be a freelancer JWT from POST /users/login. Requires `hey` (https://github.com/rakyll/hey).
+# Results are appended to gateway-logging-results.txt; compare the 99% and Average lines.
+# No runs have been recorded yet, so the async pipeline's latency benefit is still unmeasured.
+set -euo pipefail
+
+LABEL="${1:?usage: $0 <label>}"
+TOKEN="${TOKEN:?set TOKEN to a freelancer JWT}"
+TARGET="${TARGET:-http://localhost:8765/freelancers/profile/${USER_ID:-1}}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-128}"
+RESULTS="$(dirname "$0")/gateway-logging-results.txt"
+
+echo "Warming up ${TARGET}"
+hey -z 10s -c "${CONCURRENCY}" -H "Authorization: Bearer ${TOKEN}" "${TARGET}" > /dev/null
+
+echo "Measuring ${LABEL} for ${DURATION} at concurrency ${CONCURRENCY}"
+SUMMARY="$(hey -z "${DURATION}" -c "${CONCURRENCY}" -H "Authorization: Bearer ${TOKEN}" "${TARGET}")"
+echo "${SUMMARY}"
+
+{
+  echo "== ${LABEL} $(date -u +%Y-%m-%dT%H:%M:%SZ) c=${CONCURRENCY} d=${DURATION}"
+  echo "${SUMMARY}" | grep -E "Requests/sec|Average|99% in|\[[0-9]{3}\]"
+} >> "${RESULTS}"
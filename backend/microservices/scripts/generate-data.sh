@@ -0,0 +1,16 @@
+#!/usr/bin/env bash
+# Builds the datagen module and bulk-loads a synthetic marketplace into the per-service databases
+# via COPY. The schema must exist first (sql-scripts/00-05 or one start of each service).
+# Extra arguments go to the generator, e.g.
+#
+#   ./generate-data.sh                                        # 1M users, 500k projects, ~8 bids/project
+#   ./generate-data.sh --users=5000000 --projects=3000000 --truncate
+#   ./generate-data.sh --jdbc-url=jdbc:postgresql://db:5432 --password=secret
+#
+# Synthetic users log in as user<id>@synthetic.example with --user-password (default Password123!).
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+(cd "${ROOT}/datagen" && mvn -B -q package -DskipTests)
+java -jar "${ROOT}/datagen/target/datagen.jar" "$@"
@@ -0,0 +1,27 @@
+#!/usr/bin/env bash
+# Packages every service plus the loadtest module, then runs the end-to-end harness: embedded
+# PostgreSQL seeded from sql-scripts/, all services on static discovery (no service-registry),
+# and the register -> post -> browse -> bid -> accept scenario through the gateway.
+# Extra arguments go to the harness, e.g.
+#
+#   ./loadtest.sh                                 # 20 users, 15s warm-up, 60s measured
+#   ./loadtest.sh --users=100 --duration=5m
+#   ./loadtest.sh --skip-boot --gateway=http://localhost:8765   # load an already running stack
+#
+# Per-service logs go to loadtest/target/logs, results to loadtest/results/loadtest-<timestamp>.json.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+SERVICES="user-service client-service freelancer-service project-service bid-service api-gateway"
+
+if [[ " $* " != *" --skip-boot "* ]]; then
+  (cd "${ROOT}/service-commons" && mvn -B -q install -DskipTests)
+  for svc in ${SERVICES}; do
+    echo "Packaging ${svc}"
+    (cd "${ROOT}/${svc}" && mvn -B -q package -DskipTests)
+  done
+fi
+(cd "${ROOT}/loadtest" && mvn -B -q package -DskipTests)
+
+cd "${ROOT}/loadtest"
+java -jar target/loadtest.jar "$@"
@@ -0,0 +1,67 @@
+#!/usr/bin/env bash
+# Compares the JVM and native-image builds of api-gateway or project-service: startup-to-first-request,
+# RSS when idle and after load, and steady-state throughput/latency with hey. Run once per mode with
+# Postgres, the service-registry and (for the gateway) the backends up:
+#
+#   (mvn package)                    ./native-benchmark.sh project-service jvm
+#   (mvn -Pnative native:compile)    ./native-benchmark.sh project-service native
+#   TOKEN=<jwt> ./native-benchmark.sh api-gateway native
+#
+# TARGET overrides the measured path (default /projects/open). Results are appended to native-results.txt.
+set -euo pipefail
+
+MODULE="${1:?usage: $0 <api-gateway|project-service> <jvm|native>}"
+MODE="${2:?usage: $0 <api-gateway|project-service> <jvm|native>}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY="${CONCURRENCY:-50}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS="$(dirname "$0")/native-results.txt"
+LOG="$(mktemp)"
+
+case "${MODULE}" in
+  api-gateway) PORT=8765 ;;
+  project-service) PORT=8083 ;;
+  *) echo "Native builds exist only for api-gateway and project-service" >&2; exit 1 ;;
+esac
+URL="http://localhost:${PORT}${TARGET:-/projects/open}"
+AUTH=()
+if [[ -n "${TOKEN:-}" ]]; then
+  AUTH=(-H "Authorization: Bearer ${TOKEN}")
+fi
+
+now_ms() { date +%s%3N; }
+rss_mb() { echo $(( $(ps -o rss= -p "$1") / 1024 )); }
+
+START="$(now_ms)"
+if [[ "${MODE}" == "native" ]]; then
+  "${ROOT}/${MODULE}/target/${MODULE}" --spring.profiles.active=native > "${LOG}" 2>&1 &
+else
+  java -jar "${ROOT}/${MODULE}/target/${MODULE}-0.0.1-SNAPSHOT.jar" > "${LOG}" 2>&1 &
+fi
+PID=$!
+trap 'kill "${PID}" 2> /dev/null || true; rm -f "${LOG}"' EXIT
+
+until curl -sf -o /dev/null "http://localhost:${PORT}/actuator/health"; do
+  if ! kill -0 "${PID}" 2> /dev/null; then
+    echo "${MODULE} exited during startup:" >&2
+    tail -20 "${LOG}" >&2
+    exit 1
+  fi
+  sleep 0.05
+done
+STARTUP=$(( $(now_ms) - START ))
+sleep 5
+IDLE_RSS="$(rss_mb "${PID}")"
+
+echo "Warming up ${URL}..."
+hey -z 10s -c "${CONCURRENCY}" "${AUTH[@]}" "${URL}" > /dev/null
+echo "Measuring ${URL} for ${DURATION} at concurrency ${CONCURRENCY}..."
+OUTPUT="$(hey -z "${DURATION}" -c "${CONCURRENCY}" "${AUTH[@]}" "${URL}")"
+LOADED_RSS="$(rss_mb "${PID}")"
+
+{
+  echo "== ${MODULE} ${MODE} $(date -u +%Y-%m-%dT%H:%M:%SZ) ${URL} c=${CONCURRENCY} ${DURATION}"
+  echo "startup-to-first-request: ${STARTUP} ms"
+  echo "rss idle: ${IDLE_RSS} MB, after load: ${LOADED_RSS} MB"
+  echo "${OUTPUT}" | grep -E 'Requests/sec|50%|99%|\[2[0-9]{2}\]|\[[45][0-9]{2}\]'
+} | tee -a "${RESULTS}"
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Compares the blocking MVC/JPA read endpoints of project-service with the R2DBC ones under /projects/rx
+# at increasing concurrency. Hits project-service directly (no gateway, no auth).
+#
+# Requires `hey` (https://github.com/rakyll/hey). Results are appended to project-read-results.txt.
+# It has not been run yet, so whether the R2DBC endpoints sustain more load is still unmeasured.
+set -euo pipefail
+
+BASE="${BASE:-http://localhost:8083/projects}"
+DURATION="${DURATION:-30s}"
+LEVELS="${LEVELS:-50 200 800}"
+PROJECT_ID="${PROJECT_ID:-1}"
+RESULTS="$(dirname "$0")/project-read-results.txt"
+
+run() {
+  local label="$1" url="$2" concurrency="$3" accept="$4"
+  local summary
+  summary="$(hey -z "${DURATION}" -c "${concurrency}" -H "Accept: ${accept}" "${url}")"
+  {
+    echo "== ${label} c=${concurrency} ${url} (${accept})"
+    echo "${summary}" | grep -E "Requests/sec|Average|99% in|\[[0-9]{3}\]"
+  } | tee -a "${RESULTS}"
+}
+
+echo "# $(date -u +%Y-%m-%dT%H:%M:%SZ) d=${DURATION}" >> "${RESULTS}"
+for c in ${LEVELS}; do
+  run mvc "${BASE}/getProject/${PROJECT_ID}" "${c}" application/json
+  run rx  "${BASE}/rx/getProject/${PROJECT_ID}" "${c}" application/json
+  run mvc "${BASE}/open" "${c}" application/json
+  run rx  "${BASE}/rx/open" "${c}" application/json
+  run rx-stream "${BASE}/rx/open" "${c}" application/x-ndjson
+done
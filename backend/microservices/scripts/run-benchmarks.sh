@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Builds the JMH benchmarks module and runs it, writing JMH's JSON report to
+# benchmarks/results/<short commit>.json so runs on different commits can be compared
+# (see compare-benchmarks.sh). Extra arguments go straight to JMH, e.g.
+#
+#   ./run-benchmarks.sh                      # everything
+#   ./run-benchmarks.sh JwtBenchmark -f 2    # one suite, two forks
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+COMMIT="$(git -C "${ROOT}" rev-parse --short HEAD)"
+RESULTS_DIR="${ROOT}/benchmarks/results"
+mkdir -p "${RESULTS_DIR}"
+
+(cd "${ROOT}/benchmarks" && mvn -B -q package -DskipTests)
+java -jar "${ROOT}/benchmarks/target/benchmarks.jar" -rf json -rff "${RESULTS_DIR}/${COMMIT}.json" "$@"
+echo "Results written to ${RESULTS_DIR}/${COMMIT}.json"
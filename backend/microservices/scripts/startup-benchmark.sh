@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Measures startup-to-first-request for one module: wall time from launching the JVM until the
+# first 200 from FIRST_REQUEST (default /actuator/health), plus Spring Boot's own "Started ... in"
+# figure. Run once per mode with Postgres and the service-registry up:
+#
+#   (mvn package)                 ./startup-benchmark.sh project-service jvm
+#   (mvn -Pfast-start package)    ./startup-benchmark.sh project-service fast-start
+#
+# Results are appended to startup-results.txt; compare the median lines of the two modes.
+set -euo pipefail
+
+MODULE="${1:?usage: $0 <module> <jvm|fast-start>}"
+MODE="${2:?usage: $0 <module> <jvm|fast-start>}"
+RUNS="${RUNS:-5}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS="$(dirname "$0")/startup-results.txt"
+LOG="$(mktemp)"
+trap 'rm -f "${LOG}"' EXIT
+
+case "${MODULE}" in
+  api-gateway) PORT=8765 ;;
+  service-registry) PORT=8761 ;;
+  user-service) PORT=8081 ;;
+  client-service) PORT=8082 ;;
+  project-service) PORT=8083 ;;
+  freelancer-service) PORT=8084 ;;
+  bid-service) PORT=8085 ;;
+  *) echo "Unknown module ${MODULE}" >&2; exit 1 ;;
+esac
+URL="http://localhost:${PORT}${FIRST_REQUEST:-/actuator/health}"
+
+now_ms() { date +%s%3N; }
+
+TIMES=()
+for run in $(seq 1 "${RUNS}"); do
+  START="$(now_ms)"
+  if [[ "${MODE}" == "fast-start" ]]; then
+    "$(dirname "$0")/fast-start.sh" "${MODULE}" > "${LOG}" 2>&1 &
+  else
+    java -jar "${ROOT}/${MODULE}/target/${MODULE}-0.0.1-SNAPSHOT.jar" > "${LOG}" 2>&1 &
+  fi
+  PID=$!
+  until curl -sf -o /dev/null "${URL}"; do
+    if ! kill -0 "${PID}" 2> /dev/null; then
+      echo "${MODULE} exited during startup:" >&2
+      tail -20 "${LOG}" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  ELAPSED=$(( $(now_ms) - START ))
+  STARTED="$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "${LOG}" | head -1 || true)"
+  echo "run ${run}: first request after ${ELAPSED} ms (${STARTED:-no Started line})"
+  TIMES+=("${ELAPSED}")
+  kill "${PID}"
+  wait "${PID}" 2> /dev/null || true
+done
+
+MEDIAN="$(printf '%s\n' "${TIMES[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')"
+{
+  echo "== ${MODULE} ${MODE} $(date -u +%Y-%m-%dT%H:%M:%SZ) runs=${RUNS}"
+  echo "startup-to-first-request ms: ${TIMES[*]}"
+  echo "median: ${MEDIAN} ms"
+} >> "${RESULTS}"
+echo "median startup-to-first-request: ${MEDIAN} ms"
@@ -0,0 +1,74 @@
+package com.freelancer.commons.feign;
+
+import com.freelancer.commons.limit.AdaptiveConcurrencyLimit;
+import com.freelancer.commons.limit.ConcurrencyLimitSettings;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies an {@link AdaptiveConcurrencyLimit} per target service in front of the load-balanced Feign client.
+ * Over-limit calls fail immediately with {@link LimitExceededException}, which the circuit breaker fallback turns
+ * into a 503, instead of waiting on a saturated backend.
+ */
+public class ConcurrencyLimitingFeignClient implements Client {
+
+    private final Client delegate;
+    private final ConcurrencyLimitSettings settings;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitingFeignClient(Client delegate, ConcurrencyLimitSettings settings,
+                                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String service = URI.create(request.url()).getHost();
+        AdaptiveConcurrencyLimit limit = limits.computeIfAbsent(service, this::newLimit);
+        if (!limit.tryAcquire(1.0)) {
+            rejections.computeIfAbsent(service, s -> Counter.builder("feign.concurrency.rejected")
+                    .tag("service", s)
+                    .register(meterRegistry)).increment();
+            throw new LimitExceededException(service, limit.getLimit());
+        }
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            Response response = delegate.execute(request, options);
+            dropped = response.status() >= 500;
+            return response;
+        } finally {
+            limit.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(String service) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(settings);
+        Gauge.builder("feign.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("service", service)
+                .register(meterRegistry);
+        Gauge.builder("feign.concurrency.inflight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("service", service)
+                .register(meterRegistry);
+        return limit;
+    }
+
+    public static class LimitExceededException extends IOException {
+        public LimitExceededException(String service, int limit) {
+            super("Concurrency limit of " + limit + " reached for " + service);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.freelancer.commons.feign;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Metrics for the pooled Apache HC5 client the services' Feign clients use by default. Imported with
+ * {@code @Import(FeignHttpClientConfiguration.class)}; the client itself, its pool sizes and the JDK HTTP/2
+ * alternative are chosen through {@code spring.cloud.openfeign.httpclient.*} and {@code http2client.*}.
+ */
+public class FeignHttpClientConfiguration {
+
+    /**
+     * Publishes the Feign HC5 connection pool (leased, available, pending, max) as
+     * {@code httpcomponents.httpclient.pool.*} metrics tagged {@code httpclient=feign}. Nothing is bound when the
+     * JDK HTTP/2 client is switched on instead.
+     */
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<HttpClientConnectionManager> connectionManager) {
+        return registry -> {
+            if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+                new PoolingHttpClientConnectionManagerMetricsBinder(pool, "feign").bindTo(registry);
+            }
+        };
+    }
+}
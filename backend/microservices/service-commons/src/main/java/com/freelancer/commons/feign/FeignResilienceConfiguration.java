@@ -0,0 +1,110 @@
+package com.freelancer.commons.feign;
+
+import feign.Client;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadConfigurationBuilder;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4jBulkheadProvider;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Resilience for the services' Feign clients: default Resilience4j circuit breaker, time limiter and thread-pool
+ * bulkhead configs, and latency-based hedging of GET requests. Imported by the services with Feign clients with
+ * {@code @Import(FeignResilienceConfiguration.class)}; they still switch circuit breakers on through
+ * {@code spring.cloud.openfeign.circuitbreaker.*}, whose group mode gives each Feign client its own instances.
+ * <p>
+ * Tuned through {@link FeignResilienceSettings} and {@link HedgingSettings}. Resilience4j's own
+ * {@code resilience4j.*} properties still take precedence for individual configs or instances.
+ */
+public class FeignResilienceConfiguration {
+
+    /**
+     * Breaker and time limiter for every circuit breaker id. 4xx responses are the caller's problem and do not
+     * count as failures.
+     */
+    @Bean
+    public Customizer<Resilience4JCircuitBreakerFactory> feignCircuitBreakerDefaults(Environment environment) {
+        FeignResilienceSettings settings = FeignResilienceSettings.from(environment);
+        HedgingSettings hedging = HedgingSettings.from(environment);
+        CircuitBreakerConfig circuitBreaker = CircuitBreakerConfig.custom()
+                .slidingWindowSize(settings.slidingWindowSize())
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                .failureRateThreshold(settings.failureRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(settings.slowCallDurationMs()))
+                .slowCallRateThreshold(settings.slowCallRateThreshold())
+                .waitDurationInOpenState(Duration.ofMillis(settings.openStateWaitMs()))
+                .permittedNumberOfCallsInHalfOpenState(settings.halfOpenCalls())
+                .ignoreExceptions(FeignException.FeignClientException.class)
+                .build();
+        TimeLimiterConfig timeLimiter = TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofMillis(hedging.timeBudgetMs()))
+                .build();
+        return factory -> factory.configureDefault(id -> new Resilience4JConfigBuilder(id)
+                .circuitBreakerConfig(circuitBreaker)
+                .timeLimiterConfig(timeLimiter)
+                .build());
+    }
+
+    @Bean
+    public Customizer<Resilience4jBulkheadProvider> feignBulkheadDefaults(Environment environment) {
+        FeignResilienceSettings settings = FeignResilienceSettings.from(environment);
+        ThreadPoolBulkheadConfig threadPoolBulkhead = ThreadPoolBulkheadConfig.custom()
+                .coreThreadPoolSize(settings.bulkheadCoreThreads())
+                .maxThreadPoolSize(settings.bulkheadMaxThreads())
+                .queueCapacity(settings.bulkheadQueueCapacity())
+                .build();
+        return provider -> provider.configureDefault(id -> new Resilience4jBulkheadConfigurationBuilder()
+                .bulkheadConfig(BulkheadConfig.ofDefaults())
+                .threadPoolBulkheadConfig(threadPoolBulkhead)
+                .build());
+    }
+
+    /**
+     * Decorates the load-balanced Feign client with hedging for GET requests; other requests pass straight through
+     * on the caller thread. Ordered after the concurrency limit post-processor, so hedges count against the limit.
+     */
+    @Bean
+    public static BeanPostProcessor hedgingFeignClientPostProcessor(Environment environment,
+                                                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        return new HedgingPostProcessor(environment, meterRegistry);
+    }
+
+    private static final class HedgingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private HedgingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof Client client) || bean instanceof HedgingFeignClient) {
+                return bean;
+            }
+            HedgingSettings settings = HedgingSettings.from(environment);
+            return new HedgingFeignClient(client, HedgingFeignClient.executor(settings.threads()), settings,
+                    meterRegistry.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.freelancer.commons.feign;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.Environment;
+
+/**
+ * Circuit breaker and bulkhead defaults for every Feign client, bound from {@code feign.resilience.*}. The time
+ * limiter takes its timeout from {@link HedgingSettings#timeBudgetMs()}, so hedges always fit into it.
+ *
+ * @param slidingWindowSize     calls the failure and slow-call rates are computed over
+ * @param minimumNumberOfCalls  calls needed in the window before the breaker may open
+ * @param slowCallDurationMs    calls slower than this count as slow
+ * @param openStateWaitMs       how long the breaker stays open before letting trial calls through
+ * @param halfOpenCalls         trial calls permitted while half-open
+ * @param bulkheadCoreThreads   core threads of each client's thread-pool bulkhead
+ * @param bulkheadMaxThreads    maximum threads of each client's thread-pool bulkhead
+ * @param bulkheadQueueCapacity calls that may wait for a bulkhead thread before being rejected
+ */
+@ConfigurationProperties(prefix = FeignResilienceSettings.PREFIX)
+public record FeignResilienceSettings(@DefaultValue("20") int slidingWindowSize,
+                                      @DefaultValue("10") int minimumNumberOfCalls,
+                                      @DefaultValue("50") float failureRateThreshold,
+                                      @DefaultValue("2000") long slowCallDurationMs,
+                                      @DefaultValue("80") float slowCallRateThreshold,
+                                      @DefaultValue("10000") long openStateWaitMs,
+                                      @DefaultValue("3") int halfOpenCalls,
+                                      @DefaultValue("8") int bulkheadCoreThreads,
+                                      @DefaultValue("16") int bulkheadMaxThreads,
+                                      @DefaultValue("16") int bulkheadQueueCapacity) {
+
+    public static final String PREFIX = "feign.resilience";
+
+    public static FeignResilienceSettings from(Environment environment) {
+        return Binder.get(environment).bindOrCreate(PREFIX, FeignResilienceSettings.class);
+    }
+}
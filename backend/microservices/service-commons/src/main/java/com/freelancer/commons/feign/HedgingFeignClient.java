@@ -0,0 +1,207 @@
+package com.freelancer.commons.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps the load-balanced Feign client and hedges idempotent GETs: when the first attempt has not answered within
+ * the observed latency percentile, a second attempt is sent (the load balancer picks the next instance) and the
+ * first successful response wins. Hedges are capped to a fraction of traffic so a degraded dependency is not
+ * hit with twice the load.
+ * <p>
+ * Attempts that may be hedged run on a bounded executor so the caller is free to wait for whichever answers first;
+ * a blocking Feign call cannot be abandoned once the caller thread is inside it. Everything that cannot be hedged
+ * (other methods, an exhausted hedge budget, no time left for a hedge, a saturated executor) runs directly on the
+ * caller thread.
+ */
+public class HedgingFeignClient implements Client {
+
+    private static final int SAMPLE_SIZE = 512;
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final int HEDGE_BURST = 10;
+    // Left between the end of a hedge's read timeout and the end of the caller's time budget
+    private static final long BUDGET_HEADROOM_MILLIS = 100;
+
+    private final Client delegate;
+    private final Executor executor;
+    private final HedgingSettings settings;
+    private final Counter hedgesIssued;
+    private final Counter hedgesWon;
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private final AtomicInteger sampleCursor = new AtomicInteger();
+    private final AtomicLong getRequests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private volatile long hedgeDelayMillis;
+
+    public HedgingFeignClient(Client delegate, Executor executor, HedgingSettings settings, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.settings = settings;
+        this.hedgeDelayMillis = settings.maxDelayMs();
+        this.hedgesIssued = Counter.builder("feign.hedge.issued")
+                .description("Hedged second attempts sent for slow GET requests")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("feign.hedge.won")
+                .description("Hedged attempts that answered before the original")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Executor for {@link HedgingFeignClient}: grows to {@code threads} and then rejects, which sends further calls
+     * down the unhedged path instead of queueing them. Threads are named {@code feign-hedging-1},
+     * {@code feign-hedging-2}, ...
+     */
+    public static ThreadPoolExecutor executor(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(0, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread thread = new Thread(r, "feign-hedging-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        if (!settings.enabled() || request.httpMethod() != Request.HttpMethod.GET) {
+            return delegate.execute(request, options);
+        }
+        getRequests.incrementAndGet();
+        long delay = hedgeDelay(options);
+        if (delay < 0 || !hedgeBudgetLeft()) {
+            return timed(request, options);
+        }
+        CompletableFuture<Response> primary;
+        try {
+            primary = submit(request, options);
+        } catch (RejectedExecutionException e) {
+            return timed(request, options);
+        }
+        try {
+            return primary.get(delay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!hedgeBudgetLeft()) {
+                return await(primary);
+            }
+            CompletableFuture<Response> hedge;
+            try {
+                hedge = submit(request, options);
+            } catch (RejectedExecutionException rejected) {
+                return await(primary);
+            }
+            hedges.incrementAndGet();
+            hedgesIssued.increment();
+            return firstSuccessful(primary, hedge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + request.url());
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * Delay before hedging this request, or -1 if a hedge sent now could not use its full read timeout before the
+     * caller gives up.
+     */
+    private long hedgeDelay(Request.Options options) {
+        long latest = settings.timeBudgetMs() - options.readTimeoutMillis() - BUDGET_HEADROOM_MILLIS;
+        long delay = Math.min(hedgeDelayMillis, latest);
+        return delay < settings.minDelayMs() ? -1 : delay;
+    }
+
+    private boolean hedgeBudgetLeft() {
+        return hedges.get() < getRequests.get() * settings.maxHedgeRatio() + HEDGE_BURST;
+    }
+
+    private Response timed(Request request, Request.Options options) throws IOException {
+        long start = System.nanoTime();
+        Response response = delegate.execute(request, options);
+        record(System.nanoTime() - start);
+        return response;
+    }
+
+    private CompletableFuture<Response> submit(Request request, Request.Options options) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return timed(request, options);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private Response firstSuccessful(CompletableFuture<Response> primary, CompletableFuture<Response> hedge) throws IOException {
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((response, error) -> complete(winner, failures, response, error, false));
+        hedge.whenComplete((response, error) -> complete(winner, failures, response, error, true));
+        return await(winner);
+    }
+
+    private void complete(CompletableFuture<Response> winner, AtomicInteger failures,
+                          Response response, Throwable error, boolean hedged) {
+        if (error == null) {
+            if (winner.complete(response)) {
+                if (hedged) {
+                    hedgesWon.increment();
+                }
+            } else {
+                response.close();
+            }
+        } else if (failures.incrementAndGet() == 2) {
+            winner.completeExceptionally(error);
+        }
+    }
+
+    private Response await(CompletableFuture<Response> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private void record(long nanos) {
+        int cursor = sampleCursor.getAndIncrement();
+        samples[Math.floorMod(cursor, SAMPLE_SIZE)] = nanos;
+        if (cursor > 0 && cursor % RECOMPUTE_EVERY == 0) {
+            long[] copy = Arrays.copyOf(samples, Math.min(cursor, SAMPLE_SIZE));
+            Arrays.sort(copy);
+            long percentileMillis = TimeUnit.NANOSECONDS.toMillis(copy[(int) Math.floor(settings.percentile() * (copy.length - 1))]);
+            hedgeDelayMillis = Math.max(settings.minDelayMs(), Math.min(settings.maxDelayMs(), percentileMillis));
+        }
+    }
+
+    private static IOException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IOException io) {
+            return io;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(cause);
+    }
+}
@@ -0,0 +1,38 @@
+package com.freelancer.commons.feign;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.Environment;
+
+/**
+ * Tuning for {@link HedgingFeignClient}, bound from {@code feign.hedging.*}. The defaults here are the only ones;
+ * services override individual values in their application.yml.
+ *
+ * @param percentile    latency percentile (0-1) after which a hedge is sent
+ * @param maxDelayMs    latest a hedge is sent, before the time budget lowers it further
+ * @param maxHedgeRatio maximum share of GET requests that may be hedged
+ * @param threads       bound on the attempts that may be hedged in flight at once; calls beyond it run unhedged
+ *                      on the caller thread
+ * @param timeBudgetMs  how long the caller waits for the whole call (the Resilience4j time limiter); a hedge is
+ *                      only sent while its full read timeout still fits into it
+ */
+@ConfigurationProperties(prefix = HedgingSettings.PREFIX)
+public record HedgingSettings(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("0.95") double percentile,
+                              @DefaultValue("50") long minDelayMs,
+                              @DefaultValue("800") long maxDelayMs,
+                              @DefaultValue("0.1") double maxHedgeRatio,
+                              @DefaultValue("64") int threads,
+                              @DefaultValue("4000") long timeBudgetMs) {
+
+    public static final String PREFIX = "feign.hedging";
+
+    /**
+     * Binds the settings where {@code @EnableConfigurationProperties} is not available yet, e.g. in a static
+     * {@code BeanPostProcessor}.
+     */
+    public static HedgingSettings from(Environment environment) {
+        return Binder.get(environment).bindOrCreate(PREFIX, HedgingSettings.class);
+    }
+}
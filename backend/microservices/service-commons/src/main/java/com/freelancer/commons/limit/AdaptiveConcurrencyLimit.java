@@ -0,0 +1,84 @@
+package com.freelancer.commons.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit for one downstream service, in the style of Netflix concurrency-limits. The limit grows
+ * by about one for every {@code limit} requests that complete near the best observed latency, and is cut by
+ * {@code backoffRatio} when a request fails or takes longer than {@code tolerance} x that latency. Requests beyond
+ * the limit are rejected immediately instead of queueing in the backend. Used by the gateway's route filter and by
+ * the services' Feign clients.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final ConcurrencyLimitSettings settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long minRttNanos = Long.MAX_VALUE;
+    private long minRttResetAtNanos;
+
+    public AdaptiveConcurrencyLimit(ConcurrencyLimitSettings settings) {
+        this.settings = settings;
+        this.limit = settings.initialLimit();
+        this.minRttResetAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.minRttWindowMs());
+    }
+
+    /**
+     * Takes a slot if fewer than {@code share} x limit requests are in flight. Lower-priority callers pass a
+     * smaller share, so they are shed first as the limit shrinks.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a slot. {@code dropped} marks failures and overload responses; {@code rttNanos} &lt;= 0 releases
+     * without adjusting the limit (cancelled or unmeasured requests).
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        if (dropped) {
+            decrease();
+        } else if (rttNanos > 0) {
+            onSample(rttNanos, current);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        long now = System.nanoTime();
+        if (now >= minRttResetAtNanos) {
+            // Forget the old baseline so a permanently slower backend is not treated as overloaded forever
+            minRttNanos = Long.MAX_VALUE;
+            minRttResetAtNanos = now + TimeUnit.MILLISECONDS.toNanos(settings.minRttWindowMs());
+        }
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        if (rttNanos > minRttNanos * settings.tolerance()) {
+            decrease();
+        } else if (inFlightAtCompletion * 2 >= limit) {
+            // Only grow while the current limit is actually being used
+            limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+        }
+    }
+
+    private synchronized void decrease() {
+        limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
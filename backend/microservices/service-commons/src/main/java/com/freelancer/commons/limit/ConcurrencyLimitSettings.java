@@ -0,0 +1,39 @@
+package com.freelancer.commons.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.Environment;
+
+/**
+ * Tuning for {@link AdaptiveConcurrencyLimit}, bound from {@code feign.concurrency-limit.*} in the services and
+ * {@code gateway.concurrency-limit.*} in the gateway. The defaults here are the only ones; modules override
+ * individual values in their application.yml.
+ *
+ * @param backoffRatio    multiplier applied to the limit on a drop (e.g. 0.9)
+ * @param tolerance       latency above tolerance x min RTT counts as a drop
+ * @param minRttWindowMs  how long a min RTT baseline is kept before it is re-learned
+ */
+@ConfigurationProperties(prefix = ConcurrencyLimitSettings.PREFIX)
+public record ConcurrencyLimitSettings(@DefaultValue("true") boolean enabled,
+                                       @DefaultValue("20") int initialLimit,
+                                       @DefaultValue("4") int minLimit,
+                                       @DefaultValue("200") int maxLimit,
+                                       @DefaultValue("0.9") double backoffRatio,
+                                       @DefaultValue("2.0") double tolerance,
+                                       @DefaultValue("30000") long minRttWindowMs) {
+
+    public static final String PREFIX = "feign.concurrency-limit";
+
+    /**
+     * Binds the settings where {@code @EnableConfigurationProperties} is not available yet, e.g. in a static
+     * {@code BeanPostProcessor}.
+     */
+    public static ConcurrencyLimitSettings from(Environment environment) {
+        return from(environment, PREFIX);
+    }
+
+    public static ConcurrencyLimitSettings from(Environment environment, String prefix) {
+        return Binder.get(environment).bindOrCreate(prefix, ConcurrencyLimitSettings.class);
+    }
+}
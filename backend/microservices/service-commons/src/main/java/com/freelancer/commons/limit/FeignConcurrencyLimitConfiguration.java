@@ -0,0 +1,58 @@
+package com.freelancer.commons.limit;
+
+import com.freelancer.commons.feign.ConcurrencyLimitingFeignClient;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Puts an adaptive per-service concurrency limit in front of the load-balanced Feign client. Imported by the
+ * services with Feign clients with {@code @Import(FeignConcurrencyLimitConfiguration.class)}; tuned through
+ * {@code feign.concurrency-limit.*}.
+ */
+public class FeignConcurrencyLimitConfiguration {
+
+    /**
+     * Order of the post-processor: ahead of anything that wraps the client further out, such as hedging, so that
+     * every attempt counts against the limit.
+     */
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingFeignClientPostProcessor(Environment environment,
+                                                                                ObjectProvider<MeterRegistry> meterRegistry) {
+        return new LimitingPostProcessor(environment, meterRegistry);
+    }
+
+    private static final class LimitingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private LimitingPostProcessor(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+            this.environment = environment;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof Client client) || bean instanceof ConcurrencyLimitingFeignClient) {
+                return bean;
+            }
+            ConcurrencyLimitSettings settings = ConcurrencyLimitSettings.from(environment);
+            if (!settings.enabled()) {
+                return bean;
+            }
+            return new ConcurrencyLimitingFeignClient(client, settings, meterRegistry.getObject());
+        }
+
+        @Override
+        public int getOrder() {
+            return ORDER;
+        }
+    }
+}
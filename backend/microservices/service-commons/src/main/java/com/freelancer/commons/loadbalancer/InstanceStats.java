@@ -0,0 +1,69 @@
+package com.freelancer.commons.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live load and health figures for one service instance: requests in flight, an exponentially weighted moving
+ * average of latency, and the outlier-ejection state driven by consecutive failures.
+ */
+public class InstanceStats {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong ewmaNanosBits = new AtomicLong(Double.doubleToRawLongBits(0));
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger ejections = new AtomicInteger();
+    private volatile long ejectedUntilMillis;
+
+    public void requestStarted() {
+        inFlight.incrementAndGet();
+    }
+
+    public void requestFinished(long latencyNanos, boolean failed, LatencyAwareSettings settings) {
+        inFlight.updateAndGet(n -> Math.max(0, n - 1));
+        if (latencyNanos > 0) {
+            ewmaNanosBits.updateAndGet(bits -> {
+                double current = Double.longBitsToDouble(bits);
+                double next = current == 0 ? latencyNanos : current + settings.ewmaAlpha() * (latencyNanos - current);
+                return Double.doubleToRawLongBits(next);
+            });
+        }
+        if (!failed) {
+            consecutiveFailures.set(0);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= settings.consecutiveFailures()) {
+            consecutiveFailures.set(0);
+            int times = Math.min(ejections.incrementAndGet(), 10);
+            ejectedUntilMillis = System.currentTimeMillis() + Math.min(settings.ejectionMs() * times, settings.maxEjectionMs());
+        }
+    }
+
+    /**
+     * Load-weighted cost; lower is better. Unmeasured instances count as 1 ms so they are tried but not flooded.
+     */
+    public double cost() {
+        double ewma = Math.max(Double.longBitsToDouble(ewmaNanosBits.get()), 1_000_000);
+        return ewma * (inFlight.get() + 1);
+    }
+
+    public boolean isEjected(long nowMillis) {
+        if (ejectedUntilMillis == 0) {
+            return false;
+        }
+        if (nowMillis >= ejectedUntilMillis) {
+            ejectedUntilMillis = 0;
+            ejections.updateAndGet(n -> Math.max(0, n - 1));
+            return false;
+        }
+        return true;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public double ewmaMillis() {
+        return Double.longBitsToDouble(ewmaNanosBits.get()) / 1_000_000;
+    }
+}
@@ -0,0 +1,79 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power-of-two-choices balancer: samples two healthy instances at random and sends the request to the one with
+ * the lower load-weighted latency (EWMA latency x (in-flight + 1)). Instances ejected for consecutive failures
+ * are skipped, but never more than the configured share of the pool.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceStatsRegistry registry;
+    private final LatencyAwareSettings settings;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                    InstanceStatsRegistry registry,
+                                    LatencyAwareSettings settings) {
+        this.supplierProvider = supplierProvider;
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    private Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        List<ServiceInstance> candidates = healthy(instances);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(first));
+        }
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(registry.get(a).cost() <= registry.get(b).cost() ? a : b);
+    }
+
+    private List<ServiceInstance> healthy(List<ServiceInstance> instances) {
+        long now = System.currentTimeMillis();
+        int maxEjected = instances.size() * settings.maxEjectionPercent() / 100;
+        List<ServiceInstance> healthy = new ArrayList<>(instances.size());
+        int ejected = 0;
+        for (ServiceInstance instance : instances) {
+            if (registry.get(instance).isEjected(now) && ejected < maxEjected) {
+                ejected++;
+            } else {
+                healthy.add(instance);
+            }
+        }
+        return healthy.isEmpty() ? instances : healthy;
+    }
+}
@@ -0,0 +1,41 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-service load-balancer configuration, registered through {@code @LoadBalancerClients(defaultConfiguration = ...)}.
+ * Deliberately not a {@code @Configuration} class: it must only be loaded into each service's child context.
+ */
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public LatencyAwareSettings latencyAwareSettings(Environment environment) {
+        return LatencyAwareSettings.from(environment);
+    }
+
+    @Bean
+    public InstanceStatsRegistry instanceStatsRegistry() {
+        return new InstanceStatsRegistry();
+    }
+
+    @Bean
+    public LatencyAwareLoadBalancer latencyAwareLoadBalancer(Environment environment,
+                                                             LoadBalancerClientFactory loadBalancerClientFactory,
+                                                             InstanceStatsRegistry instanceStatsRegistry,
+                                                             LatencyAwareSettings latencyAwareSettings) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LatencyAwareLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                instanceStatsRegistry,
+                latencyAwareSettings);
+    }
+
+    @Bean
+    public LatencyTrackingLifecycle latencyTrackingLifecycle(InstanceStatsRegistry instanceStatsRegistry,
+                                                             LatencyAwareSettings latencyAwareSettings) {
+        return new LatencyTrackingLifecycle(instanceStatsRegistry, latencyAwareSettings);
+    }
+}
@@ -0,0 +1,34 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.env.Environment;
+
+/**
+ * Tuning for {@link LatencyAwareLoadBalancer}, bound from {@code loadbalancer.latency-aware.*}. The defaults here
+ * are the only ones; services override individual values in their application.yml.
+ *
+ * @param ewmaAlpha           weight of the newest latency sample in the moving average
+ * @param consecutiveFailures failures in a row that eject an instance
+ * @param ejectionMs          base ejection time, multiplied by the number of recent ejections
+ * @param maxEjectionMs       cap on a single ejection
+ * @param maxEjectionPercent  upper bound on the share of instances ejected at the same time
+ */
+@ConfigurationProperties(prefix = LatencyAwareSettings.PREFIX)
+public record LatencyAwareSettings(@DefaultValue("0.3") double ewmaAlpha,
+                                   @DefaultValue("5") int consecutiveFailures,
+                                   @DefaultValue("30000") long ejectionMs,
+                                   @DefaultValue("300000") long maxEjectionMs,
+                                   @DefaultValue("50") int maxEjectionPercent) {
+
+    public static final String PREFIX = "loadbalancer.latency-aware";
+
+    /**
+     * Binds the settings in a load-balancer child context, where {@code @EnableConfigurationProperties} is not
+     * available.
+     */
+    public static LatencyAwareSettings from(Environment environment) {
+        return Binder.get(environment).bindOrCreate(PREFIX, LatencyAwareSettings.class);
+    }
+}
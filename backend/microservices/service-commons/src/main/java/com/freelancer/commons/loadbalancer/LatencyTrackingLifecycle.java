@@ -0,0 +1,79 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+
+import java.util.Map;
+
+/**
+ * Feeds {@link InstanceStatsRegistry} from load-balanced calls: in-flight counts, latency and failures
+ * (transport errors and 5xx responses).
+ */
+public class LatencyTrackingLifecycle implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private static final String START_ATTRIBUTE = LatencyTrackingLifecycle.class.getName() + ".start";
+
+    private final InstanceStatsRegistry registry;
+    private final LatencyAwareSettings settings;
+
+    public LatencyTrackingLifecycle(InstanceStatsRegistry registry, LatencyAwareSettings settings) {
+        this.registry = registry;
+        this.settings = settings;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        registry.get(lbResponse.getServer()).requestStarted();
+        Map<String, Object> attributes = attributes(request);
+        if (attributes != null) {
+            try {
+                attributes.put(START_ATTRIBUTE, System.nanoTime());
+            } catch (UnsupportedOperationException ignored) {
+                // Latency is simply not sampled for this request
+            }
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()
+                || completionContext.status() == CompletionContext.Status.DISCARD) {
+            return;
+        }
+        Map<String, Object> attributes = attributes(completionContext.getLoadBalancerRequest());
+        Object start = attributes != null ? attributes.get(START_ATTRIBUTE) : null;
+        long latency = start instanceof Long startNanos ? System.nanoTime() - startNanos : 0;
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED;
+        if (completionContext.getClientResponse() instanceof ResponseData response
+                && response.getHttpStatus() != null && response.getHttpStatus().is5xxServerError()) {
+            failed = true;
+        }
+        registry.get(lbResponse.getServer()).requestFinished(latency, failed, settings);
+    }
+
+    private static Map<String, Object> attributes(Request<Object> request) {
+        if (request != null && request.getContext() instanceof RequestDataContext context
+                && context.getClientRequest() != null) {
+            return context.getClientRequest().getAttributes();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.freelancer.commons.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples per-request debug lines: events logged with the {@link #SAMPLED} marker are written for roughly
+ * {@code rate} of calls, whatever the logger level, and dropped otherwise. All other events go through the
+ * normal level checks. Configured from {@code logging.sampling.rate} in logback-base.xml.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private double rate = 0.01;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (marker == null || format == null || !marker.contains(SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.ACCEPT : FilterReply.DENY;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+}
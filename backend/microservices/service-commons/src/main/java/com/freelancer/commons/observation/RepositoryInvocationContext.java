@@ -0,0 +1,25 @@
+package com.freelancer.commons.observation;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Context of one Spring Data repository call, observed by {@link RepositoryObservationConfiguration}.
+ */
+public class RepositoryInvocationContext extends Observation.Context {
+
+    private final String repository;
+    private final String method;
+
+    public RepositoryInvocationContext(String repository, String method) {
+        this.repository = repository;
+        this.method = method;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+}
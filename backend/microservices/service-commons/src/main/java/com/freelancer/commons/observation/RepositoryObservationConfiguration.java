@@ -0,0 +1,62 @@
+package com.freelancer.commons.observation;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Wraps every Spring Data repository call in a {@link RepositoryObservationConvention#NAME} span, so the JDBC
+ * query spans recorded underneath are grouped by the call that issued them. Imported by each service with
+ * {@code @Import(RepositoryObservationConfiguration.class)}.
+ * <p>
+ * Timing stays with Boot's repository metrics listener ({@code spring.data.repository.invocations}); the meters
+ * the observation would add on top are filtered out. Reactive repositories only assemble a publisher here, so
+ * their calls are left to the R2DBC proxy's spans.
+ */
+public class RepositoryObservationConfiguration {
+
+    private static final RepositoryObservationConvention CONVENTION = new RepositoryObservationConvention();
+
+    private static final Class<?> PUBLISHER = ClassUtils.isPresent("org.reactivestreams.Publisher", null)
+            ? ClassUtils.resolveClassName("org.reactivestreams.Publisher", null) : null;
+
+    @Bean
+    public static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(observingInterceptor(
+                                    observationRegistry, information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterFilter repositoryObservationMeterFilter() {
+        return MeterFilter.denyNameStartsWith(RepositoryObservationConvention.NAME);
+    }
+
+    private static MethodInterceptor observingInterceptor(ObjectProvider<ObservationRegistry> observationRegistry,
+                                                          String repository) {
+        return invocation -> {
+            if (PUBLISHER != null && PUBLISHER.isAssignableFrom(invocation.getMethod().getReturnType())) {
+                return invocation.proceed();
+            }
+            ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            RepositoryInvocationContext context =
+                    new RepositoryInvocationContext(repository, invocation.getMethod().getName());
+            return Observation.createNotStarted(null, CONVENTION, () -> context, registry)
+                    .observeChecked(invocation::proceed);
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.freelancer.commons.observation;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * Names repository spans {@code Repository#method} and tags them with the same {@code repository} and
+ * {@code method} keys as Boot's {@code spring.data.repository.invocations} timer, so traces and metrics line up.
+ */
+public class RepositoryObservationConvention implements ObservationConvention<RepositoryInvocationContext> {
+
+    public static final String NAME = "repository.invocation";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getContextualName(RepositoryInvocationContext context) {
+        return context.getRepository() + "#" + context.getMethod();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(RepositoryInvocationContext context) {
+        return KeyValues.of("repository", context.getRepository(), "method", context.getMethod());
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof RepositoryInvocationContext;
+    }
+}
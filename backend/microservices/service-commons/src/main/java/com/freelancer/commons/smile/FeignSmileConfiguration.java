@@ -0,0 +1,40 @@
+package com.freelancer.commons.smile;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.RequestInterceptor;
+import org.springframework.cloud.openfeign.support.HttpMessageConverterCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Lets the services' Feign clients receive Smile (binary JSON) from the services that offer it, see
+ * {@link SmileContentNegotiationConfiguration}. Imported with {@code @Import(FeignSmileConfiguration.class)}.
+ */
+public class FeignSmileConfiguration {
+
+    private static final String ACCEPT = "application/x-jackson-smile, application/json;q=0.9";
+
+    /**
+     * Adds a Smile decoder to Feign's converters; it shares Boot's Jackson settings (Java time, naming).
+     * Appended last so request bodies are still encoded as JSON.
+     */
+    @Bean
+    public HttpMessageConverterCustomizer smileFeignConverter(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        MappingJackson2SmileHttpMessageConverter smile = new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build());
+        return converters -> converters.add(smile);
+    }
+
+    /**
+     * Asks internal services for Smile, falling back to JSON when a service does not offer it.
+     */
+    @Bean
+    public RequestInterceptor smileAcceptInterceptor() {
+        return template -> {
+            if (!template.headers().containsKey("Accept")) {
+                template.header("Accept", ACCEPT);
+            }
+        };
+    }
+}
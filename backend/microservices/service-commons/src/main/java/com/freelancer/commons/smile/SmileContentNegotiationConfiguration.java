@@ -0,0 +1,30 @@
+package com.freelancer.commons.smile;
+
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets internal callers read and write Smile (binary JSON) by sending {@code Accept} / {@code Content-Type:
+ * application/x-jackson-smile}. The converter is appended after the JSON one, so requests without an explicit
+ * Smile preference (browsers, the gateway's external traffic) keep getting JSON. Imported with
+ * {@code @Import(SmileContentNegotiationConfiguration.class)} by the services that serve Feign callers.
+ */
+public class SmileContentNegotiationConfiguration implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+    public SmileContentNegotiationConfiguration(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.factory(new SmileFactory()).build()));
+    }
+}
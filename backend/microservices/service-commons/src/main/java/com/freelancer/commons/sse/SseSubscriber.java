@@ -0,0 +1,167 @@
+package com.freelancer.commons.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One server-sent-events subscriber with its own bounded outbox. Publishers only enqueue, so they never block on
+ * a connection; the blocking {@link SseEmitter#send} calls run on a shared bounded executor, at most one drain per
+ * subscriber at a time, so events stay in order and a slow connection holds up only its own outbox.
+ * <p>
+ * A subscriber whose outbox overflows has fallen behind: it is closed and its emitter completed, and the browser's
+ * EventSource reconnects (resuming from Last-Event-ID where the stream supports it).
+ */
+public class SseSubscriber {
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final Consumer<SseSubscriber> onClose;
+    private final Queue<SseEmitter.SseEventBuilder> outbox;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean emitterCompleted = new AtomicBoolean();
+    // Set when this side ends the stream; a client that disconnected or timed out needs no complete()
+    private volatile boolean completeEmitter;
+    private volatile boolean fellBehind;
+
+    /**
+     * @param capacity events that may wait for this subscriber before it counts as fallen behind
+     * @param onClose  unregisters the subscriber; runs once, whether it completed, timed out, failed or fell behind
+     */
+    public SseSubscriber(SseEmitter emitter, Executor executor, int capacity, Consumer<SseSubscriber> onClose) {
+        this.emitter = emitter;
+        this.executor = executor;
+        this.onClose = onClose;
+        this.outbox = new ArrayBlockingQueue<>(capacity);
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    /**
+     * A bounded pool for the sends of many subscribers. Each subscriber queues at most one drain, so
+     * {@code maxQueuedDrains} bounds how many subscribers can be waiting for a thread; beyond that new drains are
+     * rejected and those subscribers dropped. Threads are named {@code threadName-1}, {@code threadName-2}, ...
+     */
+    public static ThreadPoolExecutor senderPool(String threadName, int threads, int maxQueuedDrains) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueuedDrains), r -> {
+                    Thread thread = new Thread(r, threadName + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Queues an event without blocking. Returns false if the subscriber is closed or has just been dropped because
+     * its outbox was full.
+     */
+    public boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!outbox.offer(event)) {
+            fellBehind = true;
+            closeAndComplete();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Queues a keep-alive comment, unless events are already waiting (they keep the connection busy anyway).
+     */
+    public void heartbeat() {
+        if (outbox.isEmpty()) {
+            offer(SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    /**
+     * Closes the subscriber and completes its emitter, e.g. on shutdown.
+     */
+    public void complete() {
+        closeAndComplete();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * True if the subscriber was dropped for falling behind rather than disconnecting on its own.
+     */
+    public boolean fellBehind() {
+        return fellBehind;
+    }
+
+    private void closeAndComplete() {
+        completeEmitter = true;
+        close();
+        // Completing takes the emitter's write lock, which a stuck send may hold: leave it to the drain task
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // No drain is running for this subscriber, so completing here cannot block on a send
+            draining.set(false);
+            fellBehind = true;
+            completeEmitter = true;
+            close();
+            finish();
+        }
+    }
+
+    private void drain() {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!closed.get() && (event = outbox.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        if (closed.get()) {
+            finish();
+        } else if (!outbox.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
+    private void finish() {
+        outbox.clear();
+        if (completeEmitter && emitterCompleted.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+
+    private void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.accept(this);
+        }
+    }
+}
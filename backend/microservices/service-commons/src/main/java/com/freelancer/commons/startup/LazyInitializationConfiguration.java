@@ -0,0 +1,24 @@
+package com.freelancer.commons.startup;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Imported with {@code @Import(LazyInitializationConfiguration.class)} by the services that run scheduled jobs.
+ */
+public class LazyInitializationConfiguration {
+
+    /**
+     * Keeps beans with {@code @Scheduled} methods eager when {@code spring.main.lazy-initialization} is on (fast-start
+     * profile). Scheduled methods are registered when their bean is created, so a lazy job bean would never run.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansStayEager() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                        AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
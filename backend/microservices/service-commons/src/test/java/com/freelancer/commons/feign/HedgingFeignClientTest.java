@@ -0,0 +1,162 @@
+package com.freelancer.commons.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HedgingFeignClientTest {
+
+    private static final HedgingSettings SETTINGS = new HedgingSettings(true, 0.95, 10, 20, 0.1, 4, 4000);
+    private static final Request.Options OPTIONS = new Request.Options(500, TimeUnit.MILLISECONDS, 1000, TimeUnit.MILLISECONDS, true);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ThreadPoolExecutor executor = HedgingFeignClient.executor(SETTINGS.threads());
+    private final List<Thread> callThreads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+
+    @AfterEach
+    void shutDown() {
+        releaseFirst.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void slowGetIsHedgedAndTheFirstAnswerWins() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client delegate = (request, options) -> {
+            int call = calls.incrementAndGet();
+            if (call == 1) {
+                await(releaseFirst);
+            }
+            return response(request, 200 + call);
+        };
+        HedgingFeignClient client = new HedgingFeignClient(delegate, executor, SETTINGS, meterRegistry);
+
+        Response response = client.execute(get(), OPTIONS);
+
+        assertEquals(202, response.status());
+        assertEquals(1.0, meterRegistry.counter("feign.hedge.issued").count());
+        assertEquals(1.0, meterRegistry.counter("feign.hedge.won").count());
+    }
+
+    @Test
+    void fastGetIsNotHedged() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        HedgingFeignClient client = new HedgingFeignClient(
+                (request, options) -> response(request, 200 + calls.incrementAndGet()), executor, SETTINGS, meterRegistry);
+
+        assertEquals(201, client.execute(get(), OPTIONS).status());
+        assertEquals(1, calls.get());
+        assertEquals(0.0, meterRegistry.counter("feign.hedge.issued").count());
+    }
+
+    @Test
+    void otherMethodsRunOnTheCallerThread() throws Exception {
+        HedgingFeignClient client = new HedgingFeignClient(recordingThread(), executor, SETTINGS, meterRegistry);
+
+        client.execute(request(Request.HttpMethod.POST), OPTIONS);
+
+        assertEquals(List.of(Thread.currentThread()), callThreads);
+    }
+
+    @Test
+    void noHedgeWhenItsReadTimeoutWouldOutlastTheTimeBudget() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client delegate = (request, options) -> {
+            calls.incrementAndGet();
+            sleep(50);
+            callThreads.add(Thread.currentThread());
+            return response(request, 200);
+        };
+        HedgingFeignClient client = new HedgingFeignClient(delegate, executor, SETTINGS, meterRegistry);
+        // 3950 ms read timeout in a 4000 ms budget: even a hedge sent right away could not finish in time
+        Request.Options slowOptions = new Request.Options(500, TimeUnit.MILLISECONDS, 3950, TimeUnit.MILLISECONDS, true);
+
+        client.execute(get(), slowOptions);
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of(Thread.currentThread()), callThreads);
+    }
+
+    @Test
+    void saturatedExecutorFallsBackToTheCallerThread() throws Exception {
+        HedgingFeignClient client = new HedgingFeignClient(recordingThread(), task -> {
+            throw new RejectedExecutionException("full");
+        }, SETTINGS, meterRegistry);
+
+        assertEquals(200, client.execute(get(), OPTIONS).status());
+        assertEquals(List.of(Thread.currentThread()), callThreads);
+    }
+
+    @Test
+    void hedgesAreCappedBeyondTheBurst() throws Exception {
+        HedgingSettings noRatio = new HedgingSettings(true, 0.95, 10, 10, 0.0, 4, 4000);
+        Client delegate = (request, options) -> {
+            sleep(30);
+            return response(request, 200);
+        };
+        HedgingFeignClient client = new HedgingFeignClient(delegate, executor, noRatio, meterRegistry);
+
+        for (int i = 0; i < 12; i++) {
+            client.execute(get(), OPTIONS);
+        }
+
+        assertEquals(10.0, meterRegistry.counter("feign.hedge.issued").count());
+    }
+
+    @Test
+    void executorGrowsToItsBoundAndDoesNotQueue() {
+        assertEquals(SETTINGS.threads(), executor.getMaximumPoolSize());
+        assertEquals(0, executor.getQueue().remainingCapacity());
+    }
+
+    private Client recordingThread() {
+        return (request, options) -> {
+            callThreads.add(Thread.currentThread());
+            return response(request, 200);
+        };
+    }
+
+    private static Request get() {
+        return request(Request.HttpMethod.GET);
+    }
+
+    private static Request request(Request.HttpMethod method) {
+        return Request.create(method, "http://svc/items", Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder().status(status).reason("OK").request(request).headers(Map.of()).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.freelancer.commons.limit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final ConcurrencyLimitSettings SETTINGS =
+            new ConcurrencyLimitSettings(true, 10, 2, 12, 0.5, 2.0, 60_000);
+    private static final long MS = 1_000_000;
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(SETTINGS);
+
+    @Test
+    void limitGrowsByAboutOnePerLimitFastSamples() {
+        acquire(6);
+        for (int i = 0; i < 10; i++) {
+            completeAndReplace(MS);
+        }
+        assertEquals(10, limit.getLimit());
+
+        completeAndReplace(MS);
+        assertEquals(11, limit.getLimit());
+    }
+
+    @Test
+    void growthStopsAtTheMaximum() {
+        acquire(6);
+        for (int i = 0; i < 100; i++) {
+            completeAndReplace(MS);
+        }
+        assertEquals(12, limit.getLimit());
+    }
+
+    @Test
+    void limitDoesNotGrowWhileMostOfItIsUnused() {
+        for (int i = 0; i < 100; i++) {
+            acquire(1);
+            limit.release(MS, false);
+        }
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    void dropsCutTheLimitMultiplicativelyDownToTheMinimum() {
+        acquire(3);
+
+        limit.release(MS, true);
+        assertEquals(5, limit.getLimit());
+        limit.release(MS, true);
+        assertEquals(2, limit.getLimit());
+        limit.release(MS, true);
+        assertEquals(2, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void sampleSlowerThanToleranceTimesMinRttCountsAsADrop() {
+        acquire(2);
+        limit.release(10 * MS, false);
+        assertEquals(10, limit.getLimit());
+
+        limit.release(21 * MS, false);
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    void unmeasuredReleaseOnlyFreesTheSlot() {
+        acquire(1);
+        limit.release(0, false);
+
+        assertEquals(10, limit.getLimit());
+        assertEquals(0, limit.getInFlight());
+    }
+
+    @Test
+    void lowerPriorityShareIsShedFirst() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(0.5));
+        }
+        assertFalse(limit.tryAcquire(0.5));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+        }
+        assertFalse(limit.tryAcquire(1.0));
+    }
+
+    @Test
+    void smallShareStillAdmitsOneRequest() {
+        assertTrue(limit.tryAcquire(0.01));
+        assertFalse(limit.tryAcquire(0.01));
+    }
+
+    private void acquire(int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+        }
+    }
+
+    private void completeAndReplace(long rttNanos) {
+        limit.release(rttNanos, false);
+        assertTrue(limit.tryAcquire(1.0));
+    }
+}
@@ -0,0 +1,98 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstanceStatsTest {
+
+    private static final LatencyAwareSettings SETTINGS = new LatencyAwareSettings(0.5, 3, 1_000, 2_500, 50);
+    private static final long MS = 1_000_000;
+
+    @Test
+    void firstSampleSeedsTheAverageAndLaterSamplesAreWeighted() {
+        InstanceStats stats = new InstanceStats();
+
+        stats.requestStarted();
+        stats.requestFinished(10 * MS, false, SETTINGS);
+        assertEquals(10.0, stats.ewmaMillis(), 1e-9);
+
+        stats.requestStarted();
+        stats.requestFinished(30 * MS, false, SETTINGS);
+        assertEquals(20.0, stats.ewmaMillis(), 1e-9);
+    }
+
+    @Test
+    void costGrowsWithRequestsInFlight() {
+        InstanceStats stats = new InstanceStats();
+        stats.requestStarted();
+        stats.requestFinished(4 * MS, false, SETTINGS);
+        double idle = stats.cost();
+
+        stats.requestStarted();
+        stats.requestStarted();
+
+        assertEquals(2, stats.inFlight());
+        assertEquals(idle * 3, stats.cost(), 1e-6);
+    }
+
+    @Test
+    void unmeasuredInstanceCostsOneMillisecond() {
+        assertEquals(MS, new InstanceStats().cost(), 1e-6);
+    }
+
+    @Test
+    void inFlightNeverGoesNegative() {
+        InstanceStats stats = new InstanceStats();
+        stats.requestFinished(0, false, SETTINGS);
+        assertEquals(0, stats.inFlight());
+    }
+
+    @Test
+    void consecutiveFailuresEjectTheInstanceUntilTheEjectionExpires() {
+        InstanceStats stats = new InstanceStats();
+        fail(stats, 2);
+        assertFalse(stats.isEjected(System.currentTimeMillis()));
+
+        fail(stats, 1);
+        long now = System.currentTimeMillis();
+        assertTrue(stats.isEjected(now));
+        assertFalse(stats.isEjected(now + SETTINGS.ejectionMs() + 1));
+    }
+
+    @Test
+    void successResetsTheFailureStreak() {
+        InstanceStats stats = new InstanceStats();
+        fail(stats, 2);
+        stats.requestStarted();
+        stats.requestFinished(MS, false, SETTINGS);
+        fail(stats, 2);
+
+        assertFalse(stats.isEjected(System.currentTimeMillis()));
+    }
+
+    @Test
+    void repeatedEjectionsBackOffUpToTheCap() {
+        InstanceStats stats = new InstanceStats();
+        fail(stats, 3);
+        fail(stats, 3);
+        long now = System.currentTimeMillis();
+        // Second ejection in a row: twice the base time
+        assertTrue(stats.isEjected(now + SETTINGS.ejectionMs() + 100));
+
+        fail(stats, 3);
+        now = System.currentTimeMillis();
+        // Third would be 3 s, capped at 2.5 s
+        assertTrue(stats.isEjected(now + 2_400));
+        assertFalse(stats.isEjected(now + SETTINGS.maxEjectionMs() + 100));
+    }
+
+    private static void fail(InstanceStats stats, int times) {
+        for (int i = 0; i < times; i++) {
+            stats.requestStarted();
+            stats.requestFinished(MS, true, SETTINGS);
+        }
+    }
+}
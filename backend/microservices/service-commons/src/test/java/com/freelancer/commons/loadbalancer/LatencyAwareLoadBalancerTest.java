@@ -0,0 +1,100 @@
+package com.freelancer.commons.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final LatencyAwareSettings SETTINGS = new LatencyAwareSettings(0.3, 2, 60_000, 60_000, 50);
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", "SVC", "10.0.0.1", 8080, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", "SVC", "10.0.0.2", 8080, false);
+    private final InstanceStatsRegistry registry = new InstanceStatsRegistry();
+
+    @Test
+    void prefersTheInstanceWithLowerLoadWeightedLatency() {
+        record(fast, 5, false);
+        record(slow, 50, false);
+        LatencyAwareLoadBalancer balancer = balancer(fast, slow);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("fast", choose(balancer).getInstanceId());
+        }
+    }
+
+    @Test
+    void requestsInFlightOutweighSlightlyBetterLatency() {
+        record(fast, 5, false);
+        record(slow, 8, false);
+        for (int i = 0; i < 3; i++) {
+            registry.get(fast).requestStarted();
+        }
+        LatencyAwareLoadBalancer balancer = balancer(fast, slow);
+
+        assertEquals("slow", choose(balancer).getInstanceId());
+    }
+
+    @Test
+    void skipsEjectedInstances() {
+        record(fast, 5, true);
+        record(fast, 5, true);
+        record(slow, 50, false);
+        LatencyAwareLoadBalancer balancer = balancer(fast, slow);
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("slow", choose(balancer).getInstanceId());
+        }
+    }
+
+    @Test
+    void neverEjectsMoreThanTheConfiguredShare() {
+        ServiceInstance third = new DefaultServiceInstance("third", "SVC", "10.0.0.3", 8080, false);
+        for (ServiceInstance instance : new ServiceInstance[] {fast, slow, third}) {
+            record(instance, 5, true);
+            record(instance, 5, true);
+        }
+        LatencyAwareLoadBalancer balancer = balancer(fast, slow, third);
+
+        // 50% of three instances: only the first ejected one is skipped, the other two stay eligible
+        for (int i = 0; i < 20; i++) {
+            assertFalse("fast".equals(choose(balancer).getInstanceId()));
+        }
+    }
+
+    @Test
+    void singleInstanceIsAlwaysChosenEvenWhenEjected() {
+        record(fast, 5, true);
+        record(fast, 5, true);
+
+        assertEquals("fast", choose(balancer(fast)).getInstanceId());
+    }
+
+    private void record(ServiceInstance instance, long latencyMillis, boolean failed) {
+        InstanceStats stats = registry.get(instance);
+        stats.requestStarted();
+        stats.requestFinished(latencyMillis * 1_000_000, failed, SETTINGS);
+    }
+
+    private LatencyAwareLoadBalancer balancer(ServiceInstance... instances) {
+        ServiceInstanceListSupplier supplier = ServiceInstanceListSuppliers.from("SVC", instances);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("supplier", supplier));
+        return new LatencyAwareLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                registry, SETTINGS);
+    }
+
+    private static ServiceInstance choose(LatencyAwareLoadBalancer balancer) {
+        Response<ServiceInstance> response = balancer.choose(new DefaultRequest<>()).block();
+        return response.getServer();
+    }
+}
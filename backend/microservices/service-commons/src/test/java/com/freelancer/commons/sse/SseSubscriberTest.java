@@ -0,0 +1,168 @@
+package com.freelancer.commons.sse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseSubscriberTest {
+
+    private final RecordingEmitter emitter = new RecordingEmitter();
+    private final ManualExecutor executor = new ManualExecutor();
+    private final AtomicInteger closes = new AtomicInteger();
+
+    @Test
+    void publisherOnlyEnqueuesAndTheExecutorSendsInOrder() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, executor, 8, s -> closes.incrementAndGet());
+        SseEmitter.SseEventBuilder first = SseEmitter.event().id("1");
+        SseEmitter.SseEventBuilder second = SseEmitter.event().id("2");
+
+        assertTrue(subscriber.offer(first));
+        assertTrue(subscriber.offer(second));
+
+        assertTrue(emitter.sent.isEmpty());
+        assertEquals(1, executor.tasks.size(), "one drain per subscriber at a time");
+        executor.runAll();
+        assertEquals(List.of(first, second), emitter.sent);
+        assertEquals(0, closes.get());
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsDroppedAndCompletedOnTheExecutor() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, executor, 2, s -> closes.incrementAndGet());
+
+        assertTrue(subscriber.offer(SseEmitter.event().id("1")));
+        assertTrue(subscriber.offer(SseEmitter.event().id("2")));
+        assertFalse(subscriber.offer(SseEmitter.event().id("3")));
+
+        assertTrue(subscriber.isClosed());
+        assertTrue(subscriber.fellBehind());
+        assertEquals(1, closes.get());
+        assertFalse(emitter.completed, "the publisher thread must not touch the emitter");
+        assertFalse(subscriber.offer(SseEmitter.event().id("4")));
+
+        executor.runAll();
+        assertTrue(emitter.completed);
+        assertTrue(emitter.sent.isEmpty());
+    }
+
+    @Test
+    void failedSendClosesTheSubscriberWithoutCompletingIt() {
+        emitter.failure = new IOException("Broken pipe");
+        SseSubscriber subscriber = new SseSubscriber(emitter, executor, 8, s -> closes.incrementAndGet());
+
+        subscriber.offer(SseEmitter.event().id("1"));
+        executor.runAll();
+
+        assertTrue(subscriber.isClosed());
+        assertFalse(subscriber.fellBehind());
+        assertEquals(1, closes.get());
+        assertFalse(emitter.completed);
+    }
+
+    @Test
+    void rejectedDrainDropsTheSubscriber() {
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        SseSubscriber subscriber = new SseSubscriber(emitter, saturated, 8, s -> closes.incrementAndGet());
+
+        subscriber.offer(SseEmitter.event().id("1"));
+
+        assertTrue(subscriber.isClosed());
+        assertTrue(subscriber.fellBehind());
+        assertTrue(emitter.completed);
+        assertEquals(1, closes.get());
+    }
+
+    @Test
+    void heartbeatIsSkippedWhileEventsAreWaiting() {
+        SseSubscriber subscriber = new SseSubscriber(emitter, executor, 8, s -> closes.incrementAndGet());
+        SseEmitter.SseEventBuilder event = SseEmitter.event().id("1");
+        subscriber.offer(event);
+
+        subscriber.heartbeat();
+        executor.runAll();
+        assertEquals(List.of(event), emitter.sent);
+
+        subscriber.heartbeat();
+        executor.runAll();
+        assertEquals(2, emitter.sent.size());
+    }
+
+    @Test
+    void senderPoolThreadsGetNumberedNames() throws InterruptedException {
+        ThreadPoolExecutor pool = SseSubscriber.senderPool("stream-sender", 2, 8);
+        Set<String> names = ConcurrentHashMap.newKeySet();
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                pool.execute(() -> {
+                    names.add(Thread.currentThread().getName());
+                    bothRunning.countDown();
+                    try {
+                        bothRunning.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(bothRunning.await(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(Set.of("stream-sender-1", "stream-sender-2"), names);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<SseEventBuilder> sent = new ArrayList<>();
+        private IOException failure;
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            sent.add(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -22,7 +22,6 @@ public class JwtUtil {
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", role);
         claims.put("userId", String.valueOf(userId));
-        System.out.println("Generating token for userId: " + userId + ", role: " + role);
 
         return Jwts.builder()
                 .setClaims(claims)
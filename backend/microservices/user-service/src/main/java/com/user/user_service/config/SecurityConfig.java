@@ -29,6 +29,7 @@ public class SecurityConfig {
         http.authorizeHttpRequests(configurer ->
                                 configurer
                                         .requestMatchers("/users/**", "/users/login", "/clients/create").permitAll()
+                                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
 //                                        .anyRequest().authenticated()
                                         .requestMatchers("CLIENT-SERVICE/clients/getClientDetails/{id}").hasRole("CLIENT")
                                         .requestMatchers("/freelancer/**").hasRole("FREELANCER")
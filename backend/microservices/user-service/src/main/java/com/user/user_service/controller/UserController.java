@@ -6,6 +6,8 @@ import com.user.user_service.model.User;
 import com.user.user_service.repo.UserRepository;
 import com.user.user_service.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,11 +18,15 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import static com.freelancer.commons.logging.SamplingTurboFilter.SAMPLED;
+
 @RestController
 @RequestMapping("/users")
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final Logger log = LoggerFactory.getLogger(UserController.class);
+
     private final UserService userService;
     private final UserRepository userRepository;
     @Autowired
@@ -46,7 +52,7 @@ public class UserController {
                 return ResponseEntity.badRequest().build();
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("Registration failed for {}", user.getUserName(), e);
             return ResponseEntity.status(500).build();
         }
     }
@@ -71,11 +77,10 @@ public class UserController {
                     .findFirst()
                     .map(GrantedAuthority::getAuthority)
                     .orElse("ROLE_USER"); // default fallback
-            System.out.println("============="+role);
             // ✅ Get userId from DB or UserDetailsService
             User user = (User) userRepository.findByUserName(request.getUserName()).get();
             String token = jwtUtil.generateToken(request.getUserName(), role, Long.valueOf(user.getId()));
-            System.out.println("UserId: " + jwtUtil.extractUserId(token));
+            log.debug(SAMPLED, "Issued token for userId={} role={}", user.getId(), role);
             return ResponseEntity.ok(token);
         } else {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid access");
@@ -4,7 +4,7 @@ import com.user.user_service.dto.ClientUser;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 
-@FeignClient(name = "CLIENT-SERVICE")
+@FeignClient(name = "CLIENT-SERVICE", fallbackFactory = ClientInterfaceFallbackFactory.class)
 public interface ClientInterface {
     @PostMapping("/clients/create")
     public ClientUser createClient(ClientUser clientUser);
@@ -0,0 +1,31 @@
+package com.user.user_service.feign;
+
+import com.user.user_service.dto.ClientUser;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Used when the CLIENT-SERVICE call fails, times out, is rejected by the bulkhead or the circuit is open.
+ * Client errors are passed through; everything else fails fast with 503.
+ */
+@Component
+public class ClientInterfaceFallbackFactory implements FallbackFactory<ClientInterface> {
+
+    private static final Logger log = LoggerFactory.getLogger(ClientInterfaceFallbackFactory.class);
+
+    @Override
+    public ClientInterface create(Throwable cause) {
+        return clientUser -> {
+            if (cause instanceof FeignException.FeignClientException clientError) {
+                throw clientError;
+            }
+            log.warn("CLIENT-SERVICE unavailable, could not create client profile: {}", cause.toString());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Client service unavailable", cause);
+        };
+    }
+}
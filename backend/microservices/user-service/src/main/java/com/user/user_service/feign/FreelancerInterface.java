@@ -4,7 +4,7 @@ import com.user.user_service.dto.FreelancerUser;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 
-@FeignClient(name = "FREELANCER-SERVICE")
+@FeignClient(name = "FREELANCER-SERVICE", fallbackFactory = FreelancerInterfaceFallbackFactory.class)
 public interface FreelancerInterface {
     @PostMapping("/freelancers/create")
     public FreelancerUser createFreelancer(FreelancerUser freelancerUser);
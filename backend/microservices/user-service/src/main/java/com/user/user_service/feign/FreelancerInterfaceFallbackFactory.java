@@ -0,0 +1,31 @@
+package com.user.user_service.feign;
+
+import com.user.user_service.dto.FreelancerUser;
+import feign.FeignException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.openfeign.FallbackFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Used when the FREELANCER-SERVICE call fails, times out, is rejected by the bulkhead or the circuit is open.
+ * Client errors are passed through; everything else fails fast with 503.
+ */
+@Component
+public class FreelancerInterfaceFallbackFactory implements FallbackFactory<FreelancerInterface> {
+
+    private static final Logger log = LoggerFactory.getLogger(FreelancerInterfaceFallbackFactory.class);
+
+    @Override
+    public FreelancerInterface create(Throwable cause) {
+        return freelancerUser -> {
+            if (cause instanceof FeignException.FeignClientException clientError) {
+                throw clientError;
+            }
+            log.warn("FREELANCER-SERVICE unavailable, could not create freelancer profile: {}", cause.toString());
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Freelancer service unavailable", cause);
+        };
+    }
+}
@@ -6,6 +6,8 @@ import com.user.user_service.feign.FreelancerInterface;
 import com.user.user_service.model.User;
 import com.user.user_service.repo.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -19,6 +21,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserService implements UserDetailsService {
 
+    private static final Logger log = LoggerFactory.getLogger(UserService.class);
+
     private final UserRepository userRepository;
     private final ClientInterface clientInterface;
     private final FreelancerInterface freelancerInterface;
@@ -34,7 +38,7 @@ public class UserService implements UserDetailsService {
                                 user.getUserName(),
                                 user.getPassword()
                         ));
-                System.out.println("Freelancer created");
+                log.info("Registered freelancer userId={}", user.getId());
 
             } else if(user.getRole().name().equals("CLIENT")) {
                 ClientUser clientUser = clientInterface.createClient(
@@ -44,7 +48,7 @@ public class UserService implements UserDetailsService {
                                 user.getUserName(),
                                 user.getPassword()
                         ));
-                System.out.println("Client created: " + clientUser);
+                log.info("Registered client userId={}", user.getId());
             }
             return user;
         } catch (Exception e) {
@@ -55,7 +59,6 @@ public class UserService implements UserDetailsService {
     public String getUserRole(String email) {
         Optional<Object> user = userRepository.findByUserName(email);
         User u = (User) user.get();
-        System.out.println(user);
         if (user != null) {
             return u.getRole().name();
         } else {
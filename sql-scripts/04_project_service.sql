@@ -1,8 +1,19 @@
 -- ============================================================
--- PROJECT SERVICE - projects_table
+-- PROJECT SERVICE - projects_table, categories_table
 -- Database: project_service
 -- ============================================================
 
+-- Canonical category dictionary; projects reference it by a small-int id
+CREATE TABLE IF NOT EXISTS categories_table (
+    id                      SMALLSERIAL PRIMARY KEY,
+    name                    VARCHAR(255) NOT NULL,
+    normalized_name         VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_categories_normalized_name UNIQUE (normalized_name)
+);
+
+COMMENT ON TABLE categories_table IS 'Canonical project categories, interned at write time';
+COMMENT ON COLUMN categories_table.normalized_name IS 'Trimmed, whitespace-collapsed, lower-cased name used for lookups';
+
 CREATE TABLE IF NOT EXISTS projects_table (
     id                      SERIAL PRIMARY KEY,
     client_id               INTEGER NOT NULL,
@@ -12,18 +23,114 @@ CREATE TABLE IF NOT EXISTS projects_table (
     budget_min              DOUBLE PRECISION,
     budget_max              DOUBLE PRECISION,
     category                VARCHAR(255),
+    category_id             SMALLINT REFERENCES categories_table(id),
     deadline                DATE,
     duration                BIGINT,     -- stored in nanoseconds by Hibernate (java.time.Duration)
-    status                  VARCHAR(50) DEFAULT 'OPEN',
+    status                  SMALLINT NOT NULL DEFAULT 0,   -- ProjectStatus code
     assigned_freelancer_id  INTEGER,
     created_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Existing databases created before categories_table
+ALTER TABLE projects_table ADD COLUMN IF NOT EXISTS category_id SMALLINT REFERENCES categories_table(id);
+
 CREATE INDEX IF NOT EXISTS idx_projects_clientid ON projects_table(client_id);
-CREATE INDEX IF NOT EXISTS idx_projects_status ON projects_table(status);
-CREATE INDEX IF NOT EXISTS idx_projects_category ON projects_table(LOWER(category));
+CREATE INDEX IF NOT EXISTS idx_projects_category_id ON projects_table(category_id);
 
 COMMENT ON TABLE projects_table IS 'Projects posted by clients, available for freelancers to bid on';
-COMMENT ON COLUMN projects_table.status IS 'OPEN, IN_PROGRESS, or COMPLETED';
+COMMENT ON COLUMN projects_table.status IS '0 = OPEN, 1 = IN_PROGRESS, 2 = COMPLETED, 3 = CANCELLED, 4 = EXPIRED';
+COMMENT ON COLUMN projects_table.category IS 'Category as entered by the client (display only)';
+COMMENT ON COLUMN projects_table.category_id IS 'References categories_table.id; used for category browsing';
 COMMENT ON COLUMN projects_table.assigned_freelancer_id IS 'Freelancer ID assigned after bid acceptance; references freelancers_table.user_id';
+
+-- Migration for existing databases: intern free-text categories and backfill category_id
+
+INSERT INTO categories_table (name, normalized_name)
+SELECT DISTINCT ON (LOWER(REGEXP_REPLACE(TRIM(category), '\s+', ' ', 'g')))
+       TRIM(category), LOWER(REGEXP_REPLACE(TRIM(category), '\s+', ' ', 'g'))
+FROM projects_table
+WHERE category IS NOT NULL AND TRIM(category) <> ''
+ON CONFLICT (normalized_name) DO NOTHING;
+
+UPDATE projects_table p
+SET category_id = c.id
+FROM categories_table c
+WHERE p.category_id IS NULL
+  AND c.normalized_name = LOWER(REGEXP_REPLACE(TRIM(p.category), '\s+', ' ', 'g'));
+
+DROP INDEX IF EXISTS idx_projects_category;
+
+-- Migration for existing databases: free-text status becomes a smallint code
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'projects_table' AND column_name = 'status'
+                 AND data_type = 'character varying') THEN
+        -- The old column took any text. Unknown values become CANCELLED rather than reappearing as open projects.
+        RAISE NOTICE 'Projects with an unknown status, migrated as CANCELLED: %', (
+            SELECT COALESCE(string_agg(DISTINCT COALESCE(status, '<null>'), ', '), 'none')
+            FROM projects_table
+            WHERE status IS NULL
+               OR UPPER(TRIM(status)) NOT IN ('OPEN', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED', 'EXPIRED'));
+        DROP INDEX IF EXISTS idx_projects_status;
+        ALTER TABLE projects_table ALTER COLUMN status DROP DEFAULT;
+        ALTER TABLE projects_table ALTER COLUMN status TYPE SMALLINT USING
+            CASE UPPER(TRIM(status))
+                WHEN 'OPEN'        THEN 0
+                WHEN 'IN_PROGRESS' THEN 1
+                WHEN 'COMPLETED'   THEN 2
+                WHEN 'CANCELLED'   THEN 3
+                WHEN 'EXPIRED'     THEN 4
+                ELSE 3
+            END;
+        ALTER TABLE projects_table ALTER COLUMN status SET DEFAULT 0;
+        ALTER TABLE projects_table ALTER COLUMN status SET NOT NULL;
+    END IF;
+END $$;
+
+-- Open projects are a small, hot subset: index only them (queries use the literal status = 0)
+CREATE INDEX IF NOT EXISTS idx_projects_open ON projects_table(created_at DESC) WHERE status = 0;
+
+-- Expiry scheduler walks open projects in deadline order
+CREATE INDEX IF NOT EXISTS idx_projects_open_deadline ON projects_table(deadline) WHERE status = 0;
+
+-- Expired or cancelled projects whose pending bids bid-service has not rejected yet (V2 in project-service)
+ALTER TABLE projects_table ADD COLUMN IF NOT EXISTS bids_pending_rejection BOOLEAN NOT NULL DEFAULT FALSE;
+CREATE INDEX IF NOT EXISTS idx_projects_bids_pending_rejection ON projects_table(id) WHERE bids_pending_rejection;
+
+-- ============================================================
+-- projects_archive - closed projects past the retention window
+-- Range-partitioned by month of closed_at; monthly partitions are created
+-- on demand by the archiver (projects_archive_yYYYYmMM)
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS projects_archive (
+    id                      INTEGER NOT NULL,
+    client_id               INTEGER NOT NULL,
+    title                   VARCHAR(500) NOT NULL,
+    description             TEXT,
+    budget                  DOUBLE PRECISION,
+    budget_min              DOUBLE PRECISION,
+    budget_max              DOUBLE PRECISION,
+    category                VARCHAR(255),
+    category_id             SMALLINT,
+    deadline                DATE,
+    duration                BIGINT,
+    status                  SMALLINT NOT NULL,
+    assigned_freelancer_id  INTEGER,
+    created_at              TIMESTAMP,
+    updated_at              TIMESTAMP,
+    closed_at               TIMESTAMP NOT NULL,
+    archived_at             TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, closed_at)
+) PARTITION BY RANGE (closed_at);
+
+CREATE INDEX IF NOT EXISTS idx_projects_archive_id ON projects_archive(id);
+CREATE INDEX IF NOT EXISTS idx_projects_archive_clientid ON projects_archive(client_id);
+
+COMMENT ON TABLE projects_archive IS 'COMPLETED, CANCELLED and EXPIRED projects moved out of projects_table';
+COMMENT ON COLUMN projects_archive.closed_at IS 'updated_at at archive time (set by the closing status change); partition key';
+
+-- Archiver candidates: closed projects by age
+CREATE INDEX IF NOT EXISTS idx_projects_closed_updated ON projects_table(updated_at) WHERE status IN (2, 3, 4);
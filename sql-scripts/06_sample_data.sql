@@ -33,7 +33,12 @@ ON CONFLICT (user_id) DO NOTHING;
 -- ==== PROJECT SERVICE (project_service) ====
 
 -- Insert sample project
-INSERT INTO projects_table (client_id, title, description, budget, budget_min, budget_max, category, status)
-VALUES (1, 'Build a REST API', 'Need a Spring Boot REST API for inventory management',
-        5000, 3000, 7000, 'Web Development', 'OPEN')
+INSERT INTO categories_table (name, normalized_name)
+VALUES ('Web Development', 'web development')
+ON CONFLICT (normalized_name) DO NOTHING;
+
+INSERT INTO projects_table (client_id, title, description, budget, budget_min, budget_max, category, category_id, status)
+SELECT 1, 'Build a REST API', 'Need a Spring Boot REST API for inventory management',
+       5000, 3000, 7000, 'Web Development', c.id, 0
+FROM categories_table c WHERE c.normalized_name = 'web development'
 ON CONFLICT DO NOTHING;